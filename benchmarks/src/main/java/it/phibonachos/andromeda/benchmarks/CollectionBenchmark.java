@@ -0,0 +1,41 @@
+package it.phibonachos.andromeda.benchmarks;
+
+import evaluators.targets.StrictCollectionObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Validations of collections of nested objects, sizes above 4096 elements being validated in parallel.
+ * Invalid collections hold a single invalid element in the middle.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+    @Param({"10", "1000", "50000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private StrictCollectionObject instance;
+    private ClassValidator<StrictCollectionObject> validator;
+
+    @Setup
+    public void setup() {
+        instance = Targets.strictCollection(size, valid);
+        validator = Validators.forClass(StrictCollectionObject.class).build();
+    }
+
+    @Benchmark
+    public ValidationResult validateAll() {
+        return validator.validateAll(instance);
+    }
+}
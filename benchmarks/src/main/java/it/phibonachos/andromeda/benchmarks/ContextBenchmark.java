@@ -0,0 +1,53 @@
+package it.phibonachos.andromeda.benchmarks;
+
+import evaluators.targets.CascadeRequirementsObject;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Validations restricted to some contexts or ignoring them.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextBenchmark {
+    @Param({"none", "only", "ignore"})
+    public String contexts;
+
+    private SimpleObject simple;
+    private CascadeRequirementsObject cascade;
+
+    @Setup
+    public void setup() {
+        simple = Targets.simple(false);
+        cascade = Targets.cascade(true);
+    }
+
+    @Benchmark
+    public ValidationResult simple() {
+        return scoped(new ValidateEvaluator<>(simple)).validateAll();
+    }
+
+    @Benchmark
+    public ValidationResult cascade() {
+        return scoped(new ValidateEvaluator<>(cascade)).validateAll();
+    }
+
+    private <T> ValidateEvaluator<T> scoped(ValidateEvaluator<T> evaluator) {
+        switch (contexts) {
+            case "only":
+                return evaluator.onlyContexts("ctx1");
+            case "ignore":
+                return evaluator.ignoreContexts("ctx2");
+            default:
+                return evaluator;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package it.phibonachos.andromeda.benchmarks;
+
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Single object validations of the test targets, for valid and invalid instances.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+    @Param({"simple", "complex", "octet", "nested", "collection", "cascade"})
+    public String target;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private Object instance;
+    private ClassValidator<Object> validator;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        instance = Targets.of(target, valid);
+        validator = Validators.forClass((Class<Object>) instance.getClass()).build();
+    }
+
+    @Benchmark
+    public Object evaluatorValidate() {
+        try {
+            return new ValidateEvaluator<>(instance).validate();
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult evaluatorValidateAll() {
+        return new ValidateEvaluator<>(instance).validateAll();
+    }
+
+    @Benchmark
+    public Object sharedValidate() {
+        try {
+            return validator.validate(instance);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult sharedValidateAll() {
+        return validator.validateAll(instance);
+    }
+}
@@ -0,0 +1,36 @@
+package it.phibonachos.andromeda.benchmarks;
+
+import evaluators.targets.GraphObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.Validators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Validations of chains of nested objects.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedBenchmark {
+    @Param({"1", "4", "16", "64"})
+    public int depth;
+
+    private GraphObject root;
+    private ClassValidator<GraphObject> validator;
+
+    @Setup
+    public void setup() {
+        root = Targets.chain(depth);
+        validator = Validators.forClass(GraphObject.class).build();
+    }
+
+    @Benchmark
+    public Boolean validate() throws Exception {
+        return validator.validate(root);
+    }
+}
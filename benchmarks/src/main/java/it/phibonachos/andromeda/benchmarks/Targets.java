@@ -0,0 +1,109 @@
+package it.phibonachos.andromeda.benchmarks;
+
+import evaluators.targets.*;
+
+import java.util.List;
+
+/**
+ * <p>Valid and invalid instances of the test targets.</p>
+ */
+final class Targets {
+    private Targets() {
+    }
+
+    static Object of(String target, boolean valid) {
+        switch (target) {
+            case "simple":
+                return simple(valid);
+            case "complex":
+                return complex(valid);
+            case "octet":
+                return octet(valid);
+            case "nested":
+                return nested(valid);
+            case "collection":
+                return collection(valid);
+            case "cascade":
+                return cascade(valid);
+            default:
+                throw new IllegalArgumentException(target);
+        }
+    }
+
+    static SimpleObject simple(boolean valid) {
+        return Fixtures.simple(valid);
+    }
+
+    static ComplexObject complex(boolean valid) {
+        ComplexObject co = new ComplexObject();
+        if (valid) {
+            co.setProp1("short");
+            co.setProp2("short");
+            co.setProp3(true);
+            co.setProp4("short");
+        }
+        return co;
+    }
+
+    static OctetTestObject octet(boolean valid) {
+        OctetTestObject oto = new OctetTestObject();
+        oto.setProp1(valid ? "prop1" : null);
+        oto.setProp2("prop2");
+        oto.setProp3("prop3");
+        oto.setProp4("prop4");
+        oto.setProp5("prop5");
+        oto.setProp6("prop6");
+        oto.setProp7("prop7");
+        oto.setProp8("prop8");
+        return oto;
+    }
+
+    static NestedObject nested(boolean valid) {
+        NestedObject no = new NestedObject();
+        no.setProp(valid ? "valid" : null);
+        no.setSo(simple(true));
+        return no;
+    }
+
+    static CollectionObject collection(boolean valid) {
+        CollectionObject co = new CollectionObject();
+        co.setMyPrivateList(valid ? simples(10) : null);
+        co.setOptList(simples(10));
+        return co;
+    }
+
+    static CascadeRequirementsObject cascade(boolean valid) {
+        CascadeRequirementsObject cro = new CascadeRequirementsObject();
+        cro.setProp("prop");
+        cro.setReq1("req1");
+        cro.setReq2(valid ? "req2" : null);
+        cro.setReq3("req3");
+        return cro;
+    }
+
+    // a chain of nested objects, each one referencing the next through its left property
+    static GraphObject chain(int depth) {
+        GraphObject root = new GraphObject();
+        root.setProp("node");
+        for (GraphObject current = root; depth > 1; depth--) {
+            GraphObject next = new GraphObject();
+            next.setProp("node");
+            current.setLeft(next);
+            current = next;
+        }
+        return root;
+    }
+
+    static StrictCollectionObject strictCollection(int size, boolean valid) {
+        StrictCollectionObject sco = new StrictCollectionObject();
+        sco.setItems(simples(size));
+        sco.setParallelItems(simples(1));
+        if (!valid)
+            sco.getItems().get(size / 2).setProp(null);
+        return sco;
+    }
+
+    static List<SimpleObject> simples(int size) {
+        return Fixtures.simples(size);
+    }
+}
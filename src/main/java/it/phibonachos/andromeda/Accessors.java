@@ -0,0 +1,153 @@
+package it.phibonachos.andromeda;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Turns getters into plain {@link Function}s, so that property values are read through direct calls the JIT can inline.</p>
+ */
+final class Accessors {
+    private static final MethodType ACCESSOR = MethodType.methodType(Object.class, Object.class);
+
+    private Accessors() {
+    }
+
+    /**
+     * Resolves the getter to a {@link LambdaMetafactory} generated function,
+     * falling back to a method handle or to reflection when the declaring class cannot be linked from here.
+     *
+     * @param getter No-args method to be called
+     * @return a function reading the getter value from its argument
+     */
+    static Function<Object, Object> of(Method getter) {
+        Function<Object, Object> linked = linked(getter);
+        if (linked != null)
+            return linked;
+
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup()).unreflect(getter);
+        } catch (IllegalAccessException e) {
+            return reflective(getter);
+        }
+
+        MethodHandle accessor = handle.asType(ACCESSOR);
+        return target -> {
+            try {
+                return accessor.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    /**
+     * @param getter No-args method to be called
+     * @return a {@link LambdaMetafactory} generated function reading the getter value from its argument,
+     * null if the declaring class cannot be linked from here
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> linked(Method getter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class), ACCESSOR, handle, handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * @param getter No-args method returning an {@code int}
+     * @return a function reading the getter value from its argument without boxing
+     */
+    @SuppressWarnings("unchecked")
+    static ToIntFunction<Object> ofInt(Method getter) {
+        ToIntFunction<Object> accessor = primitive(getter, ToIntFunction.class, "applyAsInt", int.class);
+        if (accessor != null)
+            return accessor;
+
+        Function<Object, Object> reflective = reflective(getter);
+        return target -> (Integer) reflective.apply(target);
+    }
+
+    /**
+     * @param getter No-args method returning a {@code long}
+     * @return a function reading the getter value from its argument without boxing
+     */
+    @SuppressWarnings("unchecked")
+    static ToLongFunction<Object> ofLong(Method getter) {
+        ToLongFunction<Object> accessor = primitive(getter, ToLongFunction.class, "applyAsLong", long.class);
+        if (accessor != null)
+            return accessor;
+
+        Function<Object, Object> reflective = reflective(getter);
+        return target -> (Long) reflective.apply(target);
+    }
+
+    /**
+     * @param getter No-args method returning a {@code double}
+     * @return a function reading the getter value from its argument without boxing
+     */
+    @SuppressWarnings("unchecked")
+    static ToDoubleFunction<Object> ofDouble(Method getter) {
+        ToDoubleFunction<Object> accessor = primitive(getter, ToDoubleFunction.class, "applyAsDouble", double.class);
+        if (accessor != null)
+            return accessor;
+
+        Function<Object, Object> reflective = reflective(getter);
+        return target -> (Double) reflective.apply(target);
+    }
+
+    /**
+     * @param getter No-args method returning a {@code boolean}
+     * @return a predicate reading the getter value from its argument without boxing
+     */
+    @SuppressWarnings("unchecked")
+    static Predicate<Object> ofBoolean(Method getter) {
+        Predicate<Object> accessor = primitive(getter, Predicate.class, "test", boolean.class);
+        if (accessor != null)
+            return accessor;
+
+        Function<Object, Object> reflective = reflective(getter);
+        return target -> (Boolean) reflective.apply(target);
+    }
+
+    // implements the primitive functional interface straight on the getter, null if the declaring class cannot be linked from here
+    private static <F> F primitive(Method getter, Class<F> function, String name, Class<?> returned) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(function), MethodType.methodType(returned, Object.class), handle, handle.type());
+            return function.cast(site.getTarget().invoke());
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private static Function<Object, Object> reflective(Method getter) {
+        getter.setAccessible(true);
+        return target -> {
+            try {
+                return getter.invoke(target);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,220 @@
+package it.phibonachos.andromeda;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Immutable validator bound to a class, obtained through {@link Validators#forClass(Class)}.</p>
+ *
+ * <p>Settings and the validation plan are fixed at build time, while the state of each validation lives in the call itself:
+ * a single instance can be kept for the life of the application and shared among threads.</p>
+ *
+ * <p>Batches are split across the {@link ForkJoinPool} set through {@link Validators.Builder#pool(ForkJoinPool)},
+ * the common pool by default.</p>
+ *
+ * @param <T> Validated class
+ */
+public final class ClassValidator<T> {
+    private final ValidationPlan plan;
+    private final ValidationScope scope;
+    private final ForkJoinPool pool;
+
+    ClassValidator(ValidationPlan plan, ValidationScope scope, ForkJoinPool pool) {
+        this.plan = plan;
+        this.scope = scope;
+        this.pool = pool;
+    }
+
+    /**
+     * @param target Object to be validated
+     * @return true if the object is valid
+     * @throws Exception describing the first violation found
+     */
+    public Boolean validate(T target) throws Exception {
+        return runOf(target).run(true).orElseThrow();
+    }
+
+    /**
+     * <p>Runs every applicable clause, collecting violations instead of throwing on the first one.</p>
+     *
+     * @param target Object to be validated
+     * @return the validation result, listing every violation found
+     */
+    public ValidationResult validateAll(T target) {
+        try {
+            return runOf(target).run(false);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <p>Validates the object without waiting for {@link it.phibonachos.andromeda.types.AsyncConstraint}s,
+     * whose checks are started at once and run concurrently, collecting violations as {@link #validateAll(Object)} does.</p>
+     *
+     * @param target Object to be validated
+     * @return a future completing with the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(T target) {
+        return runOf(target).runAsync();
+    }
+
+    /**
+     * <p>Checks again only the properties affected by a change: the changed ones and those referencing them through a clause.
+     * Violations of unaffected properties are carried over from the previous result.</p>
+     *
+     * @param target Object to be validated
+     * @param previous Result of the last {@link #validateAll(Object)} or {@link #revalidate(Object, ValidationResult, Set)} of the same object
+     * @param changedProperties Getter names or property names whose value has changed since the previous result
+     * @return the validation result, as {@link #validateAll(Object)} would have returned
+     */
+    public ValidationResult revalidate(T target, ValidationResult previous, Set<String> changedProperties) {
+        try {
+            return runOf(target).rerun(changedProperties, Objects.requireNonNull(previous));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <p>Validates every object of the batch in parallel, collecting violations as {@link #validateAll(Object)} does.
+     * Properties annotated with a {@link it.phibonachos.andromeda.types.BatchConstraint} are checked ahead,
+     * with a single call per validation class for the whole batch.</p>
+     *
+     * @param targets Objects to be validated
+     * @return validation results, in the same order as the given objects
+     */
+    public List<ValidationResult> validateAll(Collection<? extends T> targets) {
+        return validateBatch(targets instanceof List && targets instanceof RandomAccess ? (List<? extends T>) targets : new ArrayList<>(targets));
+    }
+
+    /**
+     * <p>Validates every object of the batch in parallel, collecting violations as {@link #validateAll(Object)} does.
+     * Sources which do not know their exact size when split, or whose objects are checked by a {@link it.phibonachos.andromeda.types.BatchConstraint}, are gathered in a list first.</p>
+     *
+     * @param targets Objects to be validated
+     * @return validation results, in encounter order
+     */
+    public List<ValidationResult> validateAll(Spliterator<? extends T> targets) {
+        if (!targets.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED) || plan.view(scope).batched().length > 0)
+            return validateBatch(StreamSupport.stream(targets, false).collect(Collectors.toList()));
+
+        ValidationResult[] results = new ValidationResult[Math.toIntExact(targets.getExactSizeIfKnown())];
+        pool.invoke(new SpliteratorBatch(targets, results, 0, threshold(results.length)));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * @return settings applied to every validation
+     */
+    public ValidationScope scope() {
+        return scope;
+    }
+
+    /**
+     * @return time budgets applied to every validation, whose statistics list the checks over budget
+     */
+    public TimeBudget budget() {
+        return scope.budget();
+    }
+
+    /* ----------------- PRIVATE METHODS ----------------- */
+    private List<ValidationResult> validateBatch(List<? extends T> targets) {
+        ConstraintBatch batch = ConstraintBatch.of(plan, scope, targets, pool, threshold(targets.size()));
+        ValidationResult[] results = new ValidationResult[targets.size()];
+        pool.invoke(new ListBatch(targets, batch, results, 0, results.length, threshold(results.length)));
+        return Arrays.asList(results);
+    }
+
+    // a few tasks per worker, so that idle workers can steal from slower ones
+    private int threshold(int size) {
+        return Math.max(1, size / (pool.getParallelism() * 8));
+    }
+
+    // subclasses of the bound class are validated against their own plan
+    private ValidationRun runOf(T target) {
+        Objects.requireNonNull(target);
+        return new ValidationRun(target, target.getClass() == plan.type() ? plan : ValidationPlan.of(target.getClass()), scope);
+    }
+
+    // tasks are never serialized, as they hold the validator and the objects being validated
+    @SuppressWarnings("serial")
+    private final class ListBatch extends RecursiveAction {
+        private final List<? extends T> targets;
+        // outcomes of batch constraints computed ahead, null if none
+        private final ConstraintBatch batch;
+        private final ValidationResult[] results;
+        private final int from, to, threshold;
+
+        private ListBatch(List<? extends T> targets, ConstraintBatch batch, ValidationResult[] results, int from, int to, int threshold) {
+            this.targets = targets;
+            this.batch = batch;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ListBatch(targets, batch, results, from, middle, threshold), new ListBatch(targets, batch, results, middle, to, threshold));
+                return;
+            }
+
+            for (int i = from; i < to; i++)
+                results[i] = batch == null ? validateAll(targets.get(i)) : batched(targets.get(i), i);
+        }
+
+        private ValidationResult batched(T target, int index) {
+            ValidationRun run = batch.runOf(target, index, plan, scope);
+            if (run == null)
+                return ClassValidator.this.validateAll(target);
+
+            try {
+                return run.run(false);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SpliteratorBatch extends RecursiveAction {
+        private final Spliterator<? extends T> targets;
+        private final ValidationResult[] results;
+        private final int offset, threshold;
+
+        private SpliteratorBatch(Spliterator<? extends T> targets, ValidationResult[] results, int offset, int threshold) {
+            this.targets = targets;
+            this.results = results;
+            this.offset = offset;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            Spliterator<? extends T> prefix;
+            if (targets.estimateSize() > threshold && (prefix = targets.trySplit()) != null) {
+                // the prefix keeps the leading positions, the remainder follows it
+                int size = (int) prefix.getExactSizeIfKnown();
+                invokeAll(new SpliteratorBatch(prefix, results, offset, threshold), new SpliteratorBatch(targets, results, offset + size, threshold));
+                return;
+            }
+
+            int[] position = {offset};
+            targets.forEachRemaining(target -> results[position[0]++] = validateAll(target));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.types.BatchConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Outcomes of the {@link BatchConstraint}s of a bulk validation, computed ahead with a single call per validation class.</p>
+ *
+ * <p>Values of every batched property of every object are fetched in parallel and gathered per validation class, then each validation class checks all of them at once.
+ * Fetched values and outcomes are handed to the run of each object, so that getters are still called once and validation classes are not called again.</p>
+ */
+final class ConstraintBatch {
+    private final ValidationPlan plan;
+    // positions of the batched properties within the scope
+    private final int[] batched;
+    // indexed by target position then plan node, null rows for targets validated against their own plan
+    private final Object[][] values, outcomes;
+
+    private ConstraintBatch(ValidationPlan plan, int[] batched, int size) {
+        this.plan = plan;
+        this.batched = batched;
+        this.values = new Object[size][];
+        this.outcomes = new Object[size][];
+    }
+
+    /**
+     * <p>Values are fetched in parallel on the given pool, as getters may be as expensive as the checks,
+     * then each validation class checks all of them on the calling thread.</p>
+     *
+     * @param plan Plan of the bound class, subclasses being left out of the batch
+     * @param scope Settings of the bulk validation
+     * @param targets Objects to be validated
+     * @param pool Pool fetching the values
+     * @param threshold Number of objects below which a task fetches their values without splitting
+     * @return the batch outcomes, null if the plan has no batched property within the scope
+     */
+    static ConstraintBatch of(ValidationPlan plan, ValidationScope scope, List<?> targets, ForkJoinPool pool, int threshold) {
+        int[] batched = plan.view(scope).batched();
+        if (batched.length == 0)
+            return null;
+
+        ConstraintBatch batch = new ConstraintBatch(plan, batched, targets.size());
+        pool.invoke(batch.new Fetch(targets, 0, targets.size(), threshold));
+
+        Map<Class<?>, Group> groups = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (batch.values[i] == null)
+                continue;
+
+            for (int position : batched) {
+                ValidationPlan.Property property = plan.properties().get(position);
+                Object value = batch.values[i][property.node()];
+                // unset values are left to the run
+                if (value != null)
+                    groups.computeIfAbsent(property.constraint(), k -> new Group(property)).add(i, property.node(), value);
+            }
+        }
+
+        for (Group group : groups.values())
+            group.check(scope, batch.outcomes);
+
+        return batch;
+    }
+
+    /**
+     * @param index Position of the target in the batch
+     * @return the run of the target, reusing values and outcomes computed ahead if any
+     */
+    ValidationRun runOf(Object target, int index, ValidationPlan plan, ValidationScope scope) {
+        return values[index] == null ? null : new ValidationRun(target, plan, scope, values[index], outcomes[index]);
+    }
+
+    // fetches the batched values of a target, rows being written by a single task each
+    private void fetch(Object target, int index) throws Exception {
+        if (target.getClass() != plan.type())
+            return;
+
+        Object[] values = ValidationRun.unfetched(plan.size());
+        for (int position : batched) {
+            int node = plan.properties().get(position).node();
+            values[node] = plan.fetch(target, node);
+        }
+
+        this.outcomes[index] = new Object[plan.size()];
+        this.values[index] = values;
+    }
+
+    // never serialized, as it holds the objects being validated
+    @SuppressWarnings("serial")
+    private final class Fetch extends RecursiveAction {
+        private final List<?> targets;
+        private final int from, to, threshold;
+
+        private Fetch(List<?> targets, int from, int to, int threshold) {
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Fetch(targets, from, middle, threshold), new Fetch(targets, middle, to, threshold));
+                return;
+            }
+
+            try {
+                for (int i = from; i < to; i++)
+                    fetch(targets.get(i), i);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // values checked by a single validation class
+    private static final class Group {
+        private final ValidationPlan.Property property;
+        private final List<Object> guards = new ArrayList<>();
+        private final List<int[]> owners = new ArrayList<>();
+
+        private Group(ValidationPlan.Property property) {
+            this.property = property;
+        }
+
+        private void add(int target, int node, Object value) {
+            guards.add(value);
+            owners.add(new int[]{target, node});
+        }
+
+        @SuppressWarnings("unchecked")
+        private void check(ValidationScope scope, Object[][] outcomes) {
+            Object[] verdicts = new Object[guards.size()];
+            try {
+                BitSet valid = ((BatchConstraint<Object>) property.instance(scope)).validateBatch(scope, guards);
+                for (int k = 0; k < verdicts.length; k++)
+                    verdicts[k] = valid.get(k) ? Verdict.VALID : Verdict.INVALID;
+            } catch (Exception e) {
+                // every object of the batch fails as it would have alone
+                Arrays.fill(verdicts, e);
+            }
+
+            for (int k = 0; k < verdicts.length; k++)
+                outcomes[owners.get(k)[0]][owners.get(k)[1]] = verdicts[k];
+        }
+    }
+}
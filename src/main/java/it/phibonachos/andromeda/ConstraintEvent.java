@@ -0,0 +1,31 @@
+package it.phibonachos.andromeda;
+
+import jdk.jfr.*;
+
+/**
+ * <p>Flight Recorder event of a single validation class call.
+ * Disabled by default, enable {@value #NAME} in the recording settings to collect it.</p>
+ */
+@Name(ConstraintEvent.NAME)
+@Label("Constraint Call")
+@Category("Andromeda")
+@Description("Validation class checking a property")
+@Enabled(false)
+@StackTrace(false)
+final class ConstraintEvent extends Event {
+    static final String NAME = "it.phibonachos.andromeda.Constraint";
+
+    @Label("Constraint Class")
+    Class<?> constraintClass;
+
+    @Label("Getter")
+    String getter;
+
+    @Label("Arity")
+    @Description("Number of properties handed to the validation class")
+    int arity;
+
+    @Label("Verdict")
+    @Description("VALID, INVALID, UNSET or FAILED if the validation class threw")
+    String verdict;
+}
@@ -0,0 +1,30 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.types.MultiConstraint;
+
+/**
+ * <p>Contract implemented by the {@code <Target>_AndromedaValidator} classes generated by {@link it.phibonachos.processor.ValidateProcessor}.
+ * When a generated class is found next to the validated one, {@link ValidationPlan} uses it to instantiate validation classes,
+ * and to read the properties whose getters cannot be linked into direct functions.</p>
+ *
+ * @param <T> Validated class
+ */
+public interface GeneratedValidator<T> {
+    /**
+     * Suffix appended to the validated class binary name to obtain the generated class name.
+     */
+    String SUFFIX = "_AndromedaValidator";
+
+    /**
+     * @param target Object to be validated
+     * @param property Getter name or property name referenced by a {@link Validate} clause
+     * @return the property value, read through a direct getter call
+     */
+    Object fetch(T target, String property);
+
+    /**
+     * @param getter Annotated getter name
+     * @return a new instance of the validation class defined in {@link Validate#with()}, or null if it cannot be instantiated directly
+     */
+    MultiConstraint constraint(String getter);
+}
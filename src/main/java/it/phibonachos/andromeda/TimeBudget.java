@@ -0,0 +1,102 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.metrics.SlowConstraints;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Time budgets of property checks and validations, set on a validator through
+ * {@link Validators.Builder#budget(TimeBudget)} or {@link ValidateEvaluator#budget(TimeBudget)}.
+ * Properties can also set their own budget through {@link Validate#budget()}, which takes precedence over the validator one.</p>
+ *
+ * <p>Validation classes run on the validating thread and cannot be interrupted: budgets are checked once a check is over.
+ * Checks and validations over budget are recorded in {@link #slowConstraints()}, and also reported as
+ * {@link Violation.Clause#BUDGET} violations if the budget is failing.
+ * A validation budget applies to each object, nested objects and collection elements being validated against their own budget.</p>
+ */
+public final class TimeBudget {
+    private final long constraintNanos, validationNanos;
+    private final boolean failing;
+    private final LongSupplier ticker;
+    // created on the first check over budget, as most validators without a budget never record any
+    private volatile SlowConstraints slowConstraints;
+
+    private TimeBudget(long constraintNanos, long validationNanos, boolean failing, LongSupplier ticker) {
+        this.constraintNanos = constraintNanos;
+        this.validationNanos = validationNanos;
+        this.failing = failing;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return a new budget checking only property budgets, which never fail, with its own statistics
+     */
+    public static TimeBudget none() {
+        return new TimeBudget(-1, -1, false, System::nanoTime);
+    }
+
+    /**
+     * @param constraint Budget of each property check, null if unbounded
+     * @param validation Budget of each validation, null if unbounded
+     * @param failing true to report checks and validations over budget as violations
+     * @return a new budget, with its own statistics
+     */
+    public static TimeBudget of(Duration constraint, Duration validation, boolean failing) {
+        return of(constraint, validation, failing, System::nanoTime);
+    }
+
+    /**
+     * @param constraint Budget of each property check, null if unbounded
+     * @param validation Budget of each validation, null if unbounded
+     * @param failing true to report checks and validations over budget as violations
+     * @param ticker Source of the nanosecond times measured under this budget, metrics included, {@link System#nanoTime()} by default
+     * @return a new budget, with its own statistics
+     */
+    public static TimeBudget of(Duration constraint, Duration validation, boolean failing, LongSupplier ticker) {
+        return new TimeBudget(constraint == null ? -1 : constraint.toNanos(), validation == null ? -1 : validation.toNanos(), failing, Objects.requireNonNull(ticker));
+    }
+
+    /**
+     * @return checks and validations over budget so far
+     */
+    public SlowConstraints slowConstraints() {
+        SlowConstraints result = slowConstraints;
+        if (result == null)
+            synchronized (this) {
+                result = slowConstraints;
+                if (result == null)
+                    slowConstraints = result = new SlowConstraints();
+            }
+        return result;
+    }
+
+    /**
+     * @return true if checks and validations over budget are reported as violations
+     */
+    public boolean isFailing() {
+        return failing;
+    }
+
+    /**
+     * @return budget of each property check in nanoseconds, -1 if unbounded
+     */
+    long constraintNanos() {
+        return constraintNanos;
+    }
+
+    /**
+     * @return budget of each validation in nanoseconds, -1 if unbounded
+     */
+    long validationNanos() {
+        return validationNanos;
+    }
+
+    /**
+     * @return the current time of this budget in nanoseconds
+     */
+    long nanoTime() {
+        return ticker.getAsLong();
+    }
+}
@@ -72,4 +72,12 @@ public @interface Validate {
      */
     String[] context() default {};
 
+    /**
+     * <p>Budget clause states how long, in milliseconds, the validation class is expected to take checking the annotated property.
+     * It takes precedence over the budget of the validator, see {@link TimeBudget}.</p>
+     *
+     * @return the time budget of the property check in milliseconds, -1 to fall back on the validator one
+     */
+    long budget() default -1;
+
 }
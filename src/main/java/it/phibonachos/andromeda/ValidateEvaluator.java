@@ -4,29 +4,30 @@ import it.phibonachos.andromeda.exception.*;
 import it.phibonachos.andromeda.types.Constraint;
 import it.phibonachos.ponos.AbstractEvaluator;
 import it.phibonachos.ponos.converters.Converter;
-import it.phibonachos.ponos.converters.ConverterException;
-import org.apache.commons.lang3.ArrayUtils;
 
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BinaryOperator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * <p>Validator bound to a single target, whose settings can be changed between validations.
+ * Each validation runs on its own state, use {@link Validators} to obtain an immutable validator to be shared among threads.</p>
+ *
+ * @param <Target> Validated class
+ */
 public class ValidateEvaluator<Target> extends AbstractEvaluator<Target, Boolean, Validate, InvalidFieldException> implements Validator {
-    final private Map<String, ValidationState> av;
-    private Set<Validate.Ignore> ignoreList;
-    private Set<String> contexts, ignoreContexts;
-
-    private enum ValidationState {VALID, NOT_SET, ON_EVALUATION, NOT_YET_EVALUATED}
+    final private Target instance;
+    final private ValidationPlan plan;
+    private ValidationScope scope;
 
     public ValidateEvaluator(Target t) {
         super(t);
         this.annotationClass = Validate.class;
-        av = new HashMap<>();
-        ignoreList = new HashSet<>();
-        contexts = new HashSet<>();
-        ignoreContexts = new HashSet<>();
+        this.instance = t;
+        this.plan = ValidationPlan.of(t.getClass());
+        // budget statistics of its own, not shared with every other evaluator
+        this.scope = ValidationScope.EMPTY.withBudget(null);
     }
 
     /**
@@ -34,7 +35,7 @@ public class ValidateEvaluator<Target> extends AbstractEvaluator<Target, Boolean
      * @return a loosen validator
      */
     public ValidateEvaluator<Target> ignoreClauses(Validate.Ignore... ignorable) {
-        this.ignoreList = Set.of(ignorable);
+        this.scope = ValidationScope.of(scope.contexts(), scope.ignoreContexts(), Set.of(ignorable)).withMetrics(scope.metrics()).withBudget(scope.budget());
         return this;
     }
 
@@ -44,7 +45,7 @@ public class ValidateEvaluator<Target> extends AbstractEvaluator<Target, Boolean
      */
     public ValidateEvaluator<Target> ignoreContexts(String... ignorable) {
         if(ignorable != null)
-        this.ignoreContexts = Set.of(ignorable);
+        this.scope = ValidationScope.of(scope.contexts(), Set.of(ignorable), scope.ignoreClauses()).withMetrics(scope.metrics()).withBudget(scope.budget());
         return this;
     }
 
@@ -53,131 +54,78 @@ public class ValidateEvaluator<Target> extends AbstractEvaluator<Target, Boolean
      * @return a specialized validator for the contexts passed as arguments
      */
     public ValidateEvaluator<Target> onlyContexts(String... contexts) {
-        this.contexts = Set.of(contexts);
+        this.scope = ValidationScope.of(Set.of(contexts), scope.ignoreContexts(), scope.ignoreClauses()).withMetrics(scope.metrics()).withBudget(scope.budget());
         return this;
     }
 
-    public Boolean validate() throws Exception {
-        av.forEach((key, value) -> av.put(key, ValidationState.NOT_YET_EVALUATED)); // reset keys in case of reuse, prevent fail on cascade requirements
-        cache.clear(); // clear cache in case of reuse
-        return super.evaluate();
+    /**
+     * @param metrics Listener notified of validation timings and failures, null to collect nothing
+     * @return a validator reporting to the given listener
+     */
+    public ValidateEvaluator<Target> metrics(ValidationMetrics metrics) {
+        this.scope = scope.withMetrics(metrics);
+        return this;
     }
 
-    @Override
-    public Class<? extends Converter<Boolean>> fetchConverter(Validate annotation) {
-        return annotation.with();
+    /**
+     * @param budget Time budgets of property checks and validations, null for none
+     * @return a validator checking the given budgets
+     */
+    public ValidateEvaluator<Target> budget(TimeBudget budget) {
+        this.scope = scope.withBudget(budget);
+        return this;
     }
 
-    @Override
-    protected BinaryOperator<Boolean> evaluationReductor() {
-        return (acc,val) -> acc && val;
+    public Boolean validate() throws Exception {
+        return new ValidationRun(instance, plan, scope).run(true).orElseThrow();
     }
 
     @Override
-    public Comparator<Method> comparingPredicate() {
-        return Comparator.comparing((Method m) -> !getMainAnnotation(m).mandatory())
-                .thenComparingInt(m -> getMainAnnotation(m).boundTo().length)
-                .thenComparingInt(m -> getMainAnnotation(m).requires().length);
-    }
-
-    /* ----------------- PRIVATE METHODS ----------------- */
-    private boolean validateAlternatives(String property, String... alternatives) throws NoAlternativeException {
-        if (isIgnorable(Validate.Ignore.ALTERNATIVES) || alternatives.length == 0)
-            throw new InvalidFieldException("");
-
-        if(Arrays.stream(fetchValues(alternatives)).allMatch(Objects::isNull))
-            throw new NoAlternativeException(property, List.of(alternatives));
-
-        return true;
-    }
-
-    private boolean checkConflicts(String propertyName, boolean skipWhenUnset, String ...conflicts) {
-        if(!(av.get(propertyName) == ValidationState.NOT_SET && skipWhenUnset)
-        && conflicts.length > 0 && Arrays.stream(fetchValues(conflicts))
-                .noneMatch(Objects::isNull))
-            throw new ConflictFieldException(propertyName, List.of(conflicts));
-
-        return true;
+    public ValidationResult validateAll() {
+        try {
+            return new ValidationRun(instance, plan, scope).run(false);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    // check props are instantiated and load in cache
-    private Boolean checkRequirements(String propertyName, boolean skipWhenUnset, String ...requiredProperties) {
-        if(!(av.get(propertyName) == ValidationState.NOT_SET && skipWhenUnset)
-                && requiredProperties.length > 0 && Arrays.stream(fetchValues(requiredProperties))
-                .anyMatch(Objects::isNull))
-            throw new RequirementsException(propertyName, List.of(requiredProperties));
-
-        return true;
+    @Override
+    public CompletableFuture<ValidationResult> validateAsync() {
+        return new ValidationRun(instance, plan, scope).runAsync();
     }
 
-    private boolean isIgnorable(Validate.Ignore ignorable) {
-        return ignoreList.contains(ignorable);
+    @Override
+    public Class<? extends Converter<Boolean>> fetchConverter(Validate annotation) {
+        return annotation.with();
     }
 
-    private String displayName(String method) {
-        return Stream.of(method).map(name -> name.replaceAll("^(get|is|has)", "")).map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1))).collect(Collectors.joining());
+    @Override
+    protected BinaryOperator<Boolean> evaluationReductor() {
+        return (acc,val) -> acc && val;
     }
 
-    private boolean auxProcess(Validate v, Constraint converter, Object prop, Method target, boolean skipWhenUnset) throws Exception {
-        try {
-            converter.setContext(this.contexts);
-            converter.setIgnoreContext(this.ignoreContexts);
-            return converter.evaluate(ArrayUtils.addAll(new Object[]{prop}, fetchValues(v.boundTo())));
-        } catch (NullPointerException npe) {
-            av.put(target.getName(), ValidationState.NOT_SET);
-
-            if (skipWhenUnset)
-                return true;
-
-            if (isIgnorable(Validate.Ignore.ALTERNATIVES) || v.alternatives().length == 0)
-                throw new InvalidFieldException(target.getName(), List.of(v.alternatives()));
-
-            return validateAlternatives(target.getName(), v.alternatives());
-        } catch (InvalidFieldException ife) {
-            if (skipWhenUnset)
-                return true;
-
-            throw ife;
-        }
+    @Override
+    public Comparator<Method> comparingPredicate() {
+        return Comparator.comparing(this::getMainAnnotation, ValidationPlan.ORDER);
     }
 
     @Override
     protected Boolean process(Validate v, Converter<Boolean> converter, Object prop, Method target) throws Exception {
-        av.put(target.getName(), ValidationState.ON_EVALUATION);
-        try {
-            // An unset property should be considered valid whether:
-            // the property is not set
-            // the property belong to an ignorable context
-            // the property do not belong to an evaluated context
-            // the mandatory clause is ignored
-            boolean swu = !v.mandatory()
-                    || this.skipIgnoreContext(v)
-                    || (!this.contexts.isEmpty()
-                        && this.skipNotContext(v))
-                    || isIgnorable(Validate.Ignore.MANDATORY);
-
-            // check property against its validator
-            boolean valid = !auxProcess(v, (Constraint) converter, prop, target, swu)
-                    || (checkRequirements(target.getName(), swu, v.requires()) && checkConflicts(target.getName(), swu, v.conflicts()));
-
-            av.put(target.getName(), ValidationState.VALID);
-
-            return valid;
-
-        } catch (InvalidCollectionFieldException e) {
-            throw new InvalidFieldException("Collection " + displayName(target.getName()) + "[] : " + e.getMessage());
-        } catch (InvalidPropertiesFormatException | ConverterException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
+        int position = 0;
+        while (position < plan.properties().size() && !plan.properties().get(position).getter().equals(target))
+            position++;
 
-    private boolean skipIgnoreContext(Validate v) {
-        return Arrays.stream(v.context()).anyMatch(ctx -> this.ignoreContexts.contains(ctx));
-    }
+        if (position == plan.properties().size())
+            throw new AnnotationException(target.getName() + " is not annotated with @" + Validate.class.getSimpleName());
+
+        Constraint constraint = (Constraint) converter;
+        constraint.setContext(scope.contexts());
+        constraint.setIgnoreContext(scope.ignoreContexts());
 
-    private boolean skipNotContext(Validate v) {
-        return Arrays.stream(v.context()).noneMatch(ctx -> this.contexts.contains(ctx));
+        List<Violation> violations = new ArrayList<>(1);
+        new ValidationRun(instance, plan, scope).check(plan.properties().get(position), constraint, prop, plan.view(scope).isOutOfContext(position), violations, true);
+        return ValidationResult.of(violations).orElseThrow();
     }
 }
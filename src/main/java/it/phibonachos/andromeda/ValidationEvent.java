@@ -0,0 +1,47 @@
+package it.phibonachos.andromeda;
+
+import jdk.jfr.*;
+
+/**
+ * <p>Flight Recorder event of a single validation, nested objects and collection elements included.
+ * Disabled by default, enable {@value #NAME} in the recording settings to collect it.</p>
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Category("Andromeda")
+@Description("Validation of an object")
+@Enabled(false)
+@StackTrace(false)
+final class ValidationEvent extends Event {
+    static final String NAME = "it.phibonachos.andromeda.Validation";
+    // only asked whether the event type is enabled, which is the same for every instance
+    private static final ValidationEvent PROBE = new ValidationEvent();
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Contexts")
+    @Description("Contexts to which validation is restricted, empty if not restricted")
+    String contexts;
+
+    @Label("Ignored Contexts")
+    String ignoredContexts;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Violations")
+    int violations;
+
+    /**
+     * @return a new event already begun if a recording enables it, null otherwise, so that disabled events cost nothing
+     */
+    static ValidationEvent beginIfEnabled() {
+        if (!PROBE.isEnabled())
+            return null;
+
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,53 @@
+package it.phibonachos.andromeda;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * <p>Outcomes of the nested objects validated during a single validation, keyed by identity,
+ * so that an instance reachable through several paths is validated only once.</p>
+ *
+ * <p>The graph may be reached concurrently by validation classes working in parallel:
+ * outcomes are recorded under lock, while validations run outside of it and may occasionally be repeated.</p>
+ */
+final class ValidationGraph {
+    private static final Object VALID = new Object();
+
+    private Map<Object, Object> outcomes;
+
+    /**
+     * @param target Nested object to be validated
+     * @param validation Validation of the target, run only if no outcome has been recorded yet
+     * @return the recorded verdict
+     * @throws Exception the recorded failure
+     */
+    Boolean validate(Object target, Callable<Boolean> validation) throws Exception {
+        Object outcome = outcome(target);
+        if (outcome == null) {
+            try {
+                validation.call();
+                outcome = VALID;
+            } catch (Exception e) {
+                outcome = e;
+            }
+            record(target, outcome);
+        }
+
+        if (outcome != VALID)
+            throw (Exception) outcome;
+
+        return true;
+    }
+
+    private synchronized Object outcome(Object target) {
+        return outcomes == null ? null : outcomes.get(target);
+    }
+
+    private synchronized void record(Object target, Object outcome) {
+        if (outcomes == null)
+            outcomes = new IdentityHashMap<>();
+
+        outcomes.put(target, outcome);
+    }
+}
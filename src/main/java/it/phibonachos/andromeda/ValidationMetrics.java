@@ -0,0 +1,54 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.types.Constraint;
+
+/**
+ * <p>Listener of validation timings and failures, registered on a validator through
+ * {@link Validators.Builder#metrics(ValidationMetrics)} or {@link ValidateEvaluator#metrics(ValidationMetrics)}.</p>
+ *
+ * <p>Validations with no listener registered do not read any clock nor count anything.
+ * Listeners are called by the validating threads, concurrently when the validator is shared, so they must be thread-safe and cheap.
+ * See {@link it.phibonachos.andromeda.metrics.HistogramMetrics} for a built-in implementation.</p>
+ */
+public interface ValidationMetrics {
+    /**
+     * <p>Called at the end of each validation, nested objects and collection elements included.</p>
+     *
+     * @param type Validated class
+     * @param nanos Duration of the whole validation
+     * @param valid true if no violation has been found
+     */
+    default void validated(Class<?> type, long nanos, boolean valid) {
+    }
+
+    /**
+     * <p>Called after each property check: its validation class, requirements and conflicts.</p>
+     *
+     * @param type Validated class
+     * @param getter Name of the annotated getter
+     * @param constraint Validation class of the property
+     * @param nanos Duration of the check, nested validations included
+     */
+    default void checked(Class<?> type, String getter, Class<? extends Constraint> constraint, long nanos) {
+    }
+
+    /**
+     * <p>Called for each violation found, and for each unexpected exception thrown while checking a property.</p>
+     *
+     * @param type Validated class
+     * @param getter Name of the annotated getter
+     * @param failure Type of the exception describing the failure
+     */
+    default void failed(Class<?> type, String getter, Class<? extends Exception> failure) {
+    }
+
+    /**
+     * <p>Called after a property check requesting the validation of nested objects or collection elements.</p>
+     *
+     * @param type Validated class
+     * @param getter Name of the annotated getter
+     * @param nested Number of nested validations requested by the check
+     */
+    default void fannedOut(Class<?> type, String getter, long nested) {
+    }
+}
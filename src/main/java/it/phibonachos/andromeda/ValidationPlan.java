@@ -0,0 +1,473 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.exception.AnnotationException;
+import it.phibonachos.andromeda.exception.PropertyNames;
+import it.phibonachos.andromeda.types.BatchConstraint;
+import it.phibonachos.andromeda.types.Constraint;
+import it.phibonachos.andromeda.types.MultiConstraint;
+import it.phibonachos.andromeda.types.Stateless;
+import it.phibonachos.andromeda.types.Verdict;
+import it.phibonachos.andromeda.types.mono.BooleanPrimitiveConstraint;
+import it.phibonachos.andromeda.types.mono.DoubleConstraint;
+import it.phibonachos.andromeda.types.mono.IntConstraint;
+import it.phibonachos.andromeda.types.mono.LongConstraint;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>Immutable, per-class description of what a validation run must do: the {@link Validate} annotated getters,
+ * their annotations and constraint classes, already sorted in evaluation order.</p>
+ *
+ * <p>Plans are built once per class and shared by every {@link ValidateEvaluator}, so only the first validation
+ * of a given class pays the reflective discovery and sorting.
+ * Getters are resolved once into accessor functions: {@link java.lang.invoke.LambdaMetafactory} generated functions where the getter can be linked,
+ * the {@link GeneratedValidator} generated for the class at compile time otherwise, and method handles or reflection as a last resort.</p>
+ *
+ * <p>Clauses are resolved into a dependency graph whose nodes are the getters, numbered once per class:
+ * a run keeps fetched values in an array indexed by those numbers, and each clause is a precomputed list of indexes.
+ * Clauses only read values, never verdicts of other properties, so requirements may be mutual: properties requiring each other are set together or not at all.</p>
+ *
+ * <p>Contexts declared by the class are numbered too, so that each property carries its contexts as a bit mask.
+ * For each combination of restricted and ignored contexts the plan keeps a {@link View}, listing the properties a run must check:
+ * out of context properties which no clause could make invalid are left out, costing nothing at validation time.
+ * Their getters are not called either: a getter throwing an exception no longer fails a validation which leaves its property out of context.</p>
+ */
+public final class ValidationPlan {
+    /**
+     * Evaluation order: mandatory properties first, then by number of bound properties and by number of requirements.
+     */
+    static final Comparator<Validate> ORDER = Comparator.comparing((Validate v) -> !v.mandatory())
+            .thenComparingInt(v -> v.boundTo().length)
+            .thenComparingInt(v -> v.requires().length);
+
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return new ValidationPlan(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final GeneratedValidator<Object> generated;
+    private final List<Property> properties;
+    // node of each getter name and property name, accessors indexed by node
+    private final Map<String, Integer> nodes;
+    private final Map<Method, Integer> getters;
+    private final List<Function<Object, Object>> accessors;
+    // positions of the properties depending on each node: its own property and those referencing it in a clause
+    private final int[][] dependents;
+    // bit of each context declared by the class
+    private final Map<String, Long> contexts;
+    private final Map<Object, View> views = new ConcurrentHashMap<>();
+
+    private ValidationPlan(Class<?> type) {
+        this.type = type;
+        this.generated = lookupGenerated(type);
+
+        // the annotated getters come first, followed by every other getter referenced by a clause
+        Map<String, Integer> nodes = new HashMap<>();
+        Map<Method, Integer> getters = new HashMap<>();
+        List<Function<Object, Object>> accessors = new ArrayList<>();
+        // a bridge is kept only when it is the sole method of its name, as for getters inherited from a non public class
+        List<Method> annotated = Arrays.stream(type.getMethods())
+                .filter(m -> m.isAnnotationPresent(Validate.class))
+                .collect(Collectors.toMap(Method::getName, m -> m, (a, b) -> a.isBridge() ? b : a, LinkedHashMap::new))
+                .values().stream()
+                .sorted(Comparator.comparing((Method m) -> m.getAnnotation(Validate.class), ORDER))
+                .collect(Collectors.toList());
+
+        for (Method getter : annotated) {
+            nodes.put(getter.getName(), accessors.size());
+            getters.put(getter, accessors.size());
+            accessors.add(accessor(getter.getName(), getter));
+        }
+
+        annotated.stream()
+                .map(m -> m.getAnnotation(Validate.class))
+                .flatMap(v -> Stream.of(v.boundTo(), v.requires(), v.conflicts(), v.alternatives()))
+                .flatMap(Arrays::stream)
+                .distinct()
+                .filter(name -> !nodes.containsKey(name))
+                .forEach(name -> {
+                    Method getter = resolve(name);
+                    if (getter == null) {
+                        // reported only if the clause is evaluated, as a missing getter may be harmless
+                        nodes.put(name, accessors.size());
+                        accessors.add(target -> {
+                            throw new AnnotationException(type.getSimpleName() + " does not expose any getter for " + name);
+                        });
+                    } else {
+                        nodes.put(name, getters.computeIfAbsent(getter, g -> {
+                            accessors.add(accessor(name, g));
+                            return accessors.size() - 1;
+                        }));
+                    }
+                });
+
+        List<String> declared = annotated.stream()
+                .flatMap(m -> Arrays.stream(m.getAnnotation(Validate.class).context()))
+                .distinct()
+                .collect(Collectors.toList());
+        if (declared.size() > Long.SIZE)
+            throw new AnnotationException(type.getSimpleName() + " declares more than " + Long.SIZE + " contexts");
+
+        this.contexts = IntStream.range(0, declared.size()).boxed().collect(Collectors.toUnmodifiableMap(declared::get, bit -> 1L << bit));
+        this.nodes = Collections.unmodifiableMap(nodes);
+        this.getters = Collections.unmodifiableMap(getters);
+        this.accessors = Collections.unmodifiableList(accessors);
+        this.properties = annotated.stream()
+                .map(getter -> new Property(getter, nodes.get(getter.getName())))
+                .collect(Collectors.toUnmodifiableList());
+        this.dependents = dependents();
+    }
+
+    /**
+     * @param type Class to be validated
+     * @return the cached plan for the class, building it on first use
+     */
+    public static ValidationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * @return annotated properties in evaluation order
+     */
+    public List<Property> properties() {
+        return properties;
+    }
+
+    /**
+     * @return number of nodes, that is of distinct getters referenced by the plan
+     */
+    public int size() {
+        return accessors.size();
+    }
+
+    /**
+     * @param scope Settings of the current validation
+     * @return the properties to be checked within the contexts of the scope, built on first use
+     */
+    public View view(ValidationScope scope) {
+        View view = views.get(scope.contextsKey());
+        return view != null ? view : views.computeIfAbsent(scope.contextsKey(), key -> new View(scope.contexts(), scope.ignoreContexts()));
+    }
+
+    /**
+     * @param changed Getter names or property names whose value has changed
+     * @return for each property, by position in evaluation order, whether it must be checked again
+     */
+    public boolean[] affected(Collection<String> changed) {
+        boolean[] affected = new boolean[properties.size()];
+        for (String name : changed) {
+            Integer node = nodes.containsKey(name) ? nodes.get(name) : Optional.ofNullable(resolve(name)).map(getters::get).orElse(null);
+            if (node != null)
+                for (int position : dependents[node])
+                    affected[position] = true;
+        }
+
+        return affected;
+    }
+
+    /**
+     * @return true if a {@link GeneratedValidator} has been found for the planned class
+     */
+    public boolean isGenerated() {
+        return generated != null;
+    }
+
+    /**
+     * @param target Object to be validated
+     * @param property Getter name or property name referenced by a {@link Validate} clause
+     * @return the property value
+     * @throws Exception if the getter fails
+     */
+    public Object fetch(Object target, String property) throws Exception {
+        Integer node = nodes.get(property);
+        if (node == null)
+            throw new AnnotationException(type.getSimpleName() + " does not expose any getter for " + property);
+
+        return fetch(target, node);
+    }
+
+    /**
+     * @param target Object to be validated
+     * @param node Node of the getter
+     * @return the property value
+     * @throws Exception if the getter fails
+     */
+    public Object fetch(Object target, int node) throws Exception {
+        return accessors.get(node).apply(target);
+    }
+
+    /* ----------------- PRIVATE METHODS ----------------- */
+    // primitive getters checked by primitive validation classes are read and validated without boxing
+    private PrimitiveCheck primitive(Method getter, Validate annotation) {
+        Class<?> returned = getter.getReturnType();
+        Class<?> with = annotation.with();
+        if (!returned.isPrimitive() || annotation.boundTo().length > 0)
+            return null;
+
+        if (returned == int.class && IntConstraint.class.isAssignableFrom(with)) {
+            ToIntFunction<Object> accessor = Accessors.ofInt(getter);
+            return (constraint, target) -> verdict(((IntConstraint) constraint).validate(accessor.applyAsInt(target)));
+        } else if (returned == long.class && LongConstraint.class.isAssignableFrom(with)) {
+            ToLongFunction<Object> accessor = Accessors.ofLong(getter);
+            return (constraint, target) -> verdict(((LongConstraint) constraint).validate(accessor.applyAsLong(target)));
+        } else if (returned == double.class && DoubleConstraint.class.isAssignableFrom(with)) {
+            ToDoubleFunction<Object> accessor = Accessors.ofDouble(getter);
+            return (constraint, target) -> verdict(((DoubleConstraint) constraint).validate(accessor.applyAsDouble(target)));
+        } else if (returned == boolean.class && BooleanPrimitiveConstraint.class.isAssignableFrom(with)) {
+            Predicate<Object> accessor = Accessors.ofBoolean(getter);
+            return (constraint, target) -> verdict(((BooleanPrimitiveConstraint) constraint).validate(accessor.test(target)));
+        }
+
+        return null;
+    }
+
+    private static Verdict verdict(boolean valid) {
+        return valid ? Verdict.VALID : Verdict.INVALID;
+    }
+
+    private long mask(Collection<String> names) {
+        long mask = 0;
+        for (String name : names)
+            mask |= contexts.getOrDefault(name, 0L);
+
+        return mask;
+    }
+
+    private int[][] dependents() {
+        List<Set<Integer>> dependents = new ArrayList<>();
+        for (int node = 0; node < size(); node++)
+            dependents.add(new TreeSet<>());
+
+        for (int position = 0; position < properties.size(); position++) {
+            Property p = properties.get(position);
+            dependents.get(p.node).add(position);
+            for (int[] clause : List.of(p.boundTo, p.requires, p.conflicts, p.alternatives))
+                for (int node : clause)
+                    dependents.get(node).add(position);
+        }
+
+        return dependents.stream().map(positions -> positions.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+    }
+
+    // a linked function calls the getter directly, while the generated fetch looks the property up by name on every call
+    private Function<Object, Object> accessor(String property, Method getter) {
+        Function<Object, Object> linked = Accessors.linked(getter);
+        if (linked != null)
+            return linked;
+
+        if (generated != null)
+            return target -> generated.fetch(target, property);
+
+        return Accessors.of(getter);
+    }
+
+    private Method resolve(String property) {
+        String capitalized = property.isEmpty() ? property : property.substring(0, 1).toUpperCase().concat(property.substring(1));
+        return Stream.of("get" + capitalized, "is" + capitalized, "has" + capitalized, property)
+                .map(name -> {
+                    try {
+                        return type.getMethod(name);
+                    } catch (NoSuchMethodException e) {
+                        return null;
+                    }
+                })
+                .filter(m -> m != null && m.getReturnType() != void.class)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GeneratedValidator<Object> lookupGenerated(Class<?> type) {
+        try {
+            Class<?> generated = Class.forName(type.getName() + GeneratedValidator.SUFFIX, true, type.getClassLoader());
+            if (GeneratedValidator.class.isAssignableFrom(generated))
+                return (GeneratedValidator<Object>) generated.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // no generated validator, fall back to reflection
+        }
+        return null;
+    }
+
+    /**
+     * <p>A single {@link Validate} annotated getter, with everything resolved ahead of validation.</p>
+     */
+    public final class Property {
+        private final Method getter;
+        private final String name;
+        private final Validate annotation;
+        private final Constructor<? extends MultiConstraint> constructor;
+        private final int node;
+        private final long contextMask;
+        final int[] boundTo, requires, conflicts, alternatives;
+        // null unless the property is checked without boxing
+        final PrimitiveCheck primitive;
+        // time budget of the check in nanoseconds, -1 if set by the validator
+        final long budget;
+        // whether bulk validations check the property of every object with a single call
+        final boolean batched;
+        private final MultiConstraint shared;
+
+        private Property(Method getter, int node) {
+            this.getter = getter;
+            this.name = PropertyNames.of(getter.getName());
+            this.annotation = getter.getAnnotation(Validate.class);
+            this.node = node;
+            this.contextMask = mask(Arrays.asList(annotation.context()));
+            this.boundTo = nodesOf(annotation.boundTo());
+            this.requires = nodesOf(annotation.requires());
+            this.conflicts = nodesOf(annotation.conflicts());
+            this.alternatives = nodesOf(annotation.alternatives());
+            this.primitive = primitive(getter, annotation);
+            this.budget = annotation.budget() < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(annotation.budget());
+            this.batched = BatchConstraint.class.isAssignableFrom(annotation.with()) && boundTo.length == 0;
+            try {
+                this.constructor = annotation.with().getDeclaredConstructor();
+                this.constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(annotation.with().getName() + " must provide a no-args constructor", e);
+            }
+
+            try {
+                this.shared = annotation.with().isAnnotationPresent(Stateless.class) ? newConstraint() : null;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(annotation.with().getName() + " cannot be instantiated", e);
+            }
+        }
+
+        public Method getter() {
+            return getter;
+        }
+
+        /**
+         * @return the property name shown by violations, computed once
+         */
+        public String name() {
+            return name;
+        }
+
+        public Validate annotation() {
+            return annotation;
+        }
+
+        public Class<? extends MultiConstraint> constraint() {
+            return annotation.with();
+        }
+
+        /**
+         * @return node of the annotated getter
+         */
+        public int node() {
+            return node;
+        }
+
+        /**
+         * @param target Object to be validated
+         * @return the annotated property value
+         * @throws Exception if the getter fails
+         */
+        public Object fetch(Object target) throws Exception {
+            return ValidationPlan.this.fetch(target, node);
+        }
+
+        /**
+         * @param scope Settings of the current validation, also set on fresh instances through {@link MultiConstraint#setContext(Set)}
+         *              and {@link MultiConstraint#setIgnoreContext(Set)} for validation classes reading them as fields
+         * @return the shared instance of a {@link Stateless} validation class, a fresh instance otherwise
+         * @throws ReflectiveOperationException if the validation class cannot be instantiated
+         */
+        public MultiConstraint instance(ValidationScope scope) throws ReflectiveOperationException {
+            if (shared != null)
+                return shared;
+
+            MultiConstraint constraint = newConstraint();
+            constraint.setContext(scope.contexts());
+            constraint.setIgnoreContext(scope.ignoreContexts());
+            return constraint;
+        }
+
+        /**
+         * @return a fresh instance of the validation class defined in {@link Validate#with()}
+         * @throws ReflectiveOperationException if the validation class cannot be instantiated
+         */
+        public MultiConstraint newConstraint() throws ReflectiveOperationException {
+            MultiConstraint constraint = generated != null ? generated.constraint(getter.getName()) : null;
+            return constraint != null ? constraint : constructor.newInstance();
+        }
+
+        private int[] nodesOf(String... properties) {
+            return Arrays.stream(properties).mapToInt(nodes::get).toArray();
+        }
+    }
+
+    /**
+     * <p>Reads a primitive property and checks it with its primitive validation class.</p>
+     */
+    @FunctionalInterface
+    interface PrimitiveCheck {
+        Verdict check(Constraint constraint, Object target) throws Exception;
+    }
+
+    /**
+     * <p>Properties to be checked within given contexts, with their positions in evaluation order.
+     * Out of context properties with no requirement nor conflict are not listed, so their getters are never called.</p>
+     */
+    public final class View {
+        private final int[] positions, batched;
+        private final boolean[] outOfContext;
+
+        private View(Set<String> only, Set<String> ignored) {
+            long onlyMask = mask(only), ignoredMask = mask(ignored);
+            this.outOfContext = new boolean[properties.size()];
+
+            List<Integer> positions = new ArrayList<>();
+            for (int position = 0; position < properties.size(); position++) {
+                Property p = properties.get(position);
+                outOfContext[position] = (p.contextMask & ignoredMask) != 0 || (!only.isEmpty() && (p.contextMask & onlyMask) == 0);
+
+                // out of context properties are accepted whatever their verdict, only their clauses may still fail
+                if (!outOfContext[position] || p.requires.length > 0 || p.conflicts.length > 0)
+                    positions.add(position);
+            }
+            this.positions = positions.stream().mapToInt(Integer::intValue).toArray();
+            // out of context verdicts are never read, so they are left out of bulk calls
+            this.batched = Arrays.stream(this.positions).filter(position -> properties.get(position).batched && !outOfContext[position]).toArray();
+        }
+
+        /**
+         * @return positions of the properties checked by a {@link BatchConstraint} in bulk validations
+         */
+        int[] batched() {
+            return batched;
+        }
+
+        /**
+         * @return positions of the properties to be checked, in evaluation order
+         */
+        public int[] positions() {
+            return positions;
+        }
+
+        /**
+         * @param position Position of the property in evaluation order
+         * @return true if the property is out of the restricted contexts or belongs to an ignored one
+         */
+        public boolean isOutOfContext(int position) {
+            return outOfContext[position];
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.ponos.converters.ConverterException;
+
+import java.util.List;
+
+/**
+ * <p>Outcome of a validation which collects every {@link Violation} instead of throwing on the first one.</p>
+ */
+public final class ValidationResult {
+    private static final ValidationResult VALID = new ValidationResult(List.of());
+
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    static ValidationResult of(List<Violation> violations) {
+        return violations.isEmpty() ? VALID : new ValidationResult(List.copyOf(violations));
+    }
+
+    /**
+     * @return true if no violation has been found
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return violations in evaluation order
+     */
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    /**
+     * @return true if valid
+     * @throws ConverterException the exception matching the first violation, if any
+     */
+    public Boolean orElseThrow() throws ConverterException {
+        if (!violations.isEmpty())
+            throw violations.get(0).toException();
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : violations.toString();
+    }
+}
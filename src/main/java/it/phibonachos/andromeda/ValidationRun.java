@@ -0,0 +1,448 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.exception.BudgetExceededException;
+import it.phibonachos.andromeda.exception.InvalidCollectionFieldException;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.NestedViolationsException;
+import it.phibonachos.andromeda.types.AsyncConstraint;
+import it.phibonachos.andromeda.types.Constraint;
+import it.phibonachos.andromeda.types.Verdict;
+import it.phibonachos.ponos.converters.ConverterException;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * <p>State of a single validation of a single object.
+ * A run is created for each validation and never shared, so that validators holding it only for the duration of a call stay thread-safe.</p>
+ *
+ * <p>The run walks the properties of the plan in order, keeping fetched values in an array indexed by the plan nodes,
+ * so that each getter is called at most once whatever the number of clauses referencing it.</p>
+ */
+final class ValidationRun {
+    static final Object UNFETCHED = new Object();
+
+    private final Object target;
+    private final ValidationPlan plan;
+    // switched to a scope collecting every violation by validations which do not stop at the first one
+    private ValidationScope scope;
+    // values fetched so far, indexed by plan node
+    private final Object[] values;
+    // whether the property under evaluation is unset
+    private boolean unset;
+    // whether the validation has been recorded as over budget
+    private boolean overBudget;
+    // outcomes of asynchronous or bulk validation classes, Verdict or exception indexed by plan node, null if none is known ahead
+    private Object[] outcomes;
+
+    ValidationRun(Object target, ValidationPlan plan, ValidationScope scope) {
+        this(target, plan, scope, unfetched(plan.size()), null);
+    }
+
+    /**
+     * @param values Values fetched ahead, {@link #UNFETCHED} where not fetched yet, indexed by plan node
+     * @param outcomes Outcomes known ahead, null where unknown, indexed by plan node
+     */
+    ValidationRun(Object target, ValidationPlan plan, ValidationScope scope, Object[] values, Object[] outcomes) {
+        this.target = target;
+        this.plan = plan;
+        this.scope = scope.enter(target);
+        this.values = values;
+        this.outcomes = outcomes;
+    }
+
+    static Object[] unfetched(int size) {
+        Object[] values = new Object[size];
+        Arrays.fill(values, UNFETCHED);
+        return values;
+    }
+
+    /**
+     * @param failFast true to stop at the first violation
+     * @return the violations found
+     * @throws Exception if a getter or a validation class fails unexpectedly
+     */
+    ValidationResult run(boolean failFast) throws Exception {
+        if (!failFast)
+            scope = scope.collectingAll();
+
+        ValidationMetrics metrics = scope.metrics();
+        long start = metrics == null && scope.budget().validationNanos() < 0 ? 0 : scope.budget().nanoTime();
+        ValidationEvent event = ValidationEvent.beginIfEnabled();
+
+        // properties, annotations and their order are resolved once per class by the shared plan
+        // out of context properties which cannot fail are already left out by the view
+        ValidationPlan.View view = plan.view(scope);
+        List<ValidationPlan.Property> properties = plan.properties();
+        List<Violation> violations = new ArrayList<>();
+        for (int position : view.positions()) {
+            ValidationPlan.Property property = properties.get(position);
+            // primitive properties are read by their check, without boxing
+            Object prop = property.primitive == null ? value(property.node()) : null;
+            check(property, property.instance(scope), prop, view.isOutOfContext(position), violations, failFast);
+
+            if ((failFast && !violations.isEmpty()) || isOverBudget(property, start, violations))
+                break;
+        }
+
+        return result(violations, metrics, start, event);
+    }
+
+    /**
+     * <p>Starts every asynchronous validation class at once, then collects violations as {@link #run(boolean)} does once all of them are over.
+     * Bound properties are fetched before starting them, while requirements and conflicts only depend on fetched values:
+     * asynchronous checks never depend on each other and can be in flight at the same time.</p>
+     *
+     * <p>Synchronous validation classes run on the thread completing the last asynchronous check,
+     * or on the calling one if there is none.</p>
+     *
+     * @return a future completing with the violations found
+     */
+    CompletableFuture<ValidationResult> runAsync() {
+        ValidationPlan.View view = plan.view(scope);
+        List<ValidationPlan.Property> properties = plan.properties();
+        Object[] outcomes = new Object[plan.size()];
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        try {
+            for (int position : view.positions()) {
+                ValidationPlan.Property property = properties.get(position);
+                Constraint converter = property.instance(scope);
+                if (!(converter instanceof AsyncConstraint))
+                    continue;
+
+                int node = property.node();
+                pending.add(((AsyncConstraint) converter).checkAsync(scope, arguments(property, value(node))).toCompletableFuture()
+                        .handle((verdict, failure) -> outcomes[node] = failure == null ? verdict : unwrap(failure)));
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            this.outcomes = outcomes;
+            try {
+                return run(false);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * <p>Checks again the affected properties only, keeping the previous violations of the others.</p>
+     *
+     * @param changed Getter names or property names whose value has changed
+     * @param previous Result of the last validation of the same object, collecting every violation
+     * @return the violations found, merged with the previous ones
+     * @throws Exception if a getter or a validation class fails unexpectedly
+     */
+    ValidationResult rerun(Collection<String> changed, ValidationResult previous) throws Exception {
+        scope = scope.collectingAll();
+        ValidationMetrics metrics = scope.metrics();
+        long start = metrics == null && scope.budget().validationNanos() < 0 ? 0 : scope.budget().nanoTime();
+        ValidationEvent event = ValidationEvent.beginIfEnabled();
+        boolean[] affected = plan.affected(changed);
+        // violations of nested objects are kept along with those of the property holding them
+        Map<String, List<Violation>> kept = previous.violations().stream().collect(Collectors.groupingBy(v -> v.path().split("[.\\[]", 2)[0]));
+        List<Violation> violations = new ArrayList<>();
+
+        ValidationPlan.View view = plan.view(scope);
+        List<ValidationPlan.Property> properties = plan.properties();
+        for (int position : view.positions()) {
+            ValidationPlan.Property property = properties.get(position);
+            if (affected[position]) {
+                check(property, property.instance(scope), property.primitive == null ? value(property.node()) : null, view.isOutOfContext(position), violations, false);
+                if (isOverBudget(property, start, violations))
+                    break;
+            } else
+                violations.addAll(kept.getOrDefault(property.name(), List.of()));
+        }
+
+        return result(violations, metrics, start, event);
+    }
+
+    // collects property violations, stopping at the first one if fail-fast
+    void check(ValidationPlan.Property property, Constraint converter, Object prop, boolean outOfContext, List<Violation> violations, boolean failFast) throws Exception {
+        ValidationMetrics metrics = scope.metrics();
+        TimeBudget budget = scope.budget();
+        long limit = property.budget >= 0 ? property.budget : budget.constraintNanos();
+        if (metrics == null && limit < 0) {
+            checkProperty(property, converter, prop, outOfContext, violations, failFast);
+            return;
+        }
+
+        String getter = property.getter().getName();
+        int found = violations.size();
+        long nested = metrics == null ? 0 : scope.fanOut().sum();
+        long start = budget.nanoTime();
+        long elapsed;
+        try {
+            checkProperty(property, converter, prop, outOfContext, violations, failFast);
+        } catch (Exception e) {
+            if (metrics != null)
+                metrics.failed(target.getClass(), getter, e.getClass());
+            throw e;
+        } finally {
+            elapsed = budget.nanoTime() - start;
+            if (metrics != null) {
+                metrics.checked(target.getClass(), getter, property.constraint(), elapsed);
+                long fanOut = scope.fanOut().sum() - nested;
+                if (fanOut > 0)
+                    metrics.fannedOut(target.getClass(), getter, fanOut);
+            }
+        }
+
+        // checks cannot be interrupted, they are measured against their budget once over
+        if (limit >= 0 && elapsed > limit) {
+            budget.slowConstraints().record(property.constraint(), getter, elapsed);
+            if (budget.isFailing())
+                violations.add(Violation.of(property.name(), getter, property.constraint(), new BudgetExceededException(getter, property.constraint(), elapsed, limit)));
+        }
+
+        if (metrics != null)
+            for (int i = found; i < violations.size(); i++)
+                metrics.failed(target.getClass(), getter, violations.get(i).failureType());
+    }
+
+    /* ----------------- PRIVATE METHODS ----------------- */
+    private void checkProperty(ValidationPlan.Property property, Constraint converter, Object prop, boolean outOfContext, List<Violation> violations, boolean failFast) throws Exception {
+        Validate v = property.annotation();
+        unset = false;
+        try {
+            // An unset property should be considered valid whether:
+            // the property is not set
+            // the property belong to an ignorable context
+            // the property do not belong to an evaluated context
+            // the mandatory clause is ignored
+            boolean swu = !v.mandatory()
+                    || outOfContext
+                    || isIgnorable(Validate.Ignore.MANDATORY);
+
+            // check property against its validator, then its requirements and conflicts
+            Violation violation;
+            try {
+                violation = auxProcess(property, converter, prop, swu);
+            } catch (NestedViolationsException e) {
+                // every violation of the nested object is reported under the path of this property
+                violation = null;
+                if (!swu)
+                    for (Violation nested : e.violations())
+                        violations.add(nested.within(e.index() < 0 ? property.name() : property.name() + "[" + e.index() + "]"));
+            }
+            if (violation != null) {
+                violations.add(violation);
+                if (failFast)
+                    return;
+            }
+
+            violation = checkRequirements(property, swu);
+            if (violation != null) {
+                violations.add(violation);
+                if (failFast)
+                    return;
+            }
+
+            violation = checkConflicts(property, swu);
+            if (violation != null)
+                violations.add(violation);
+
+        } catch (InvalidPropertiesFormatException | ConverterException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // records the validation as slow the first time it is over budget, true if it must stop there
+    private boolean isOverBudget(ValidationPlan.Property property, long start, List<Violation> violations) {
+        TimeBudget budget = scope.budget();
+        if (overBudget || budget.validationNanos() < 0)
+            return false;
+
+        long elapsed = budget.nanoTime() - start;
+        if (elapsed <= budget.validationNanos())
+            return false;
+
+        overBudget = true;
+        budget.slowConstraints().recordValidation(elapsed);
+        if (!budget.isFailing())
+            return false;
+
+        String getter = property.getter().getName();
+        violations.add(Violation.of(property.name(), getter, property.constraint(), new BudgetExceededException(getter, null, elapsed, budget.validationNanos())));
+        return true;
+    }
+
+    private ValidationResult result(List<Violation> violations, ValidationMetrics metrics, long start, ValidationEvent event) {
+        ValidationResult result = ValidationResult.of(violations);
+        if (metrics != null)
+            metrics.validated(target.getClass(), scope.budget().nanoTime() - start, result.isValid());
+
+        // events are disabled by default, in which case none has been created
+        if (event == null)
+            return result;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.targetClass = target.getClass();
+            event.contexts = String.join(",", scope.contexts());
+            event.ignoredContexts = String.join(",", scope.ignoreContexts());
+            event.valid = result.isValid();
+            event.violations = violations.size();
+            event.commit();
+        }
+
+        return result;
+    }
+
+    private Violation validateAlternatives(ValidationPlan.Property property) throws Exception {
+        for (int node : property.alternatives)
+            if (value(node) != null)
+                return null;
+
+        return violation(Violation.Clause.ALTERNATIVES, property, property.annotation().alternatives());
+    }
+
+    private Violation checkConflicts(ValidationPlan.Property property, boolean skipWhenUnset) throws Exception {
+        if((unset && skipWhenUnset) || property.conflicts.length == 0)
+            return null;
+
+        for (int node : property.conflicts)
+            if (value(node) == null)
+                return null;
+
+        return violation(Violation.Clause.CONFLICTS, property, property.annotation().conflicts());
+    }
+
+    // check props are instantiated and load in cache
+    private Violation checkRequirements(ValidationPlan.Property property, boolean skipWhenUnset) throws Exception {
+        if(unset && skipWhenUnset)
+            return null;
+
+        for (int node : property.requires)
+            if (value(node) == null)
+                return violation(Violation.Clause.REQUIRES, property, property.annotation().requires());
+
+        return null;
+    }
+
+    private Violation violation(Violation.Clause clause, ValidationPlan.Property property, String... properties) {
+        return Violation.of(clause, property.name(), property.getter().getName(), property.constraint(), properties);
+    }
+
+    // fetch a property through the plan, caching its value for the current run
+    private Object value(int node) throws Exception {
+        Object value = values[node];
+        if (value == UNFETCHED)
+            values[node] = value = plan.fetch(target, node);
+
+        return value;
+    }
+
+    private Verdict verdict(ValidationPlan.Property property, Constraint converter, Object prop) throws Exception {
+        ConstraintEvent event = new ConstraintEvent();
+        if (!event.isEnabled())
+            return call(property, converter, prop);
+
+        String outcome = "FAILED";
+        event.begin();
+        try {
+            Verdict verdict = call(property, converter, prop);
+            outcome = verdict.name();
+            return verdict;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.constraintClass = property.constraint();
+                event.getter = property.getter().getName();
+                event.arity = property.boundTo.length + 1;
+                event.verdict = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    // single and two properties constraints are called without any argument array
+    private Verdict call(ValidationPlan.Property property, Constraint converter, Object prop) throws Exception {
+        if (outcomes != null && outcomes[property.node()] != null)
+            return outcome(outcomes[property.node()]);
+
+        if (property.primitive != null)
+            return property.primitive.check(converter, target);
+
+        switch (property.boundTo.length) {
+            case 0:
+                return converter.check1(scope, prop);
+            case 1:
+                return converter.check2(scope, prop, value(property.boundTo[0]));
+            default:
+                return converter.check(scope, arguments(property, prop));
+        }
+    }
+
+    private static Verdict outcome(Object outcome) throws Exception {
+        if (outcome instanceof Verdict)
+            return (Verdict) outcome;
+        if (outcome instanceof Exception)
+            throw (Exception) outcome;
+
+        throw (Error) outcome;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private Object[] arguments(ValidationPlan.Property property, Object prop) throws Exception {
+        Object[] arguments = new Object[property.boundTo.length + 1];
+        arguments[0] = prop;
+        for (int i = 0; i < property.boundTo.length; i++)
+            arguments[i + 1] = value(property.boundTo[i]);
+
+        return arguments;
+    }
+
+    private boolean isIgnorable(Validate.Ignore ignorable) {
+        return scope.ignoreClauses().contains(ignorable);
+    }
+
+    private Violation auxProcess(ValidationPlan.Property property, Constraint converter, Object prop, boolean skipWhenUnset) throws Exception {
+        Method target = property.getter();
+        try {
+            switch (verdict(property, converter, prop)) {
+                case VALID:
+                    return null;
+                case INVALID:
+                    return skipWhenUnset ? null : Violation.of(property.name(), target.getName(), property.constraint(), new InvalidFieldException(converter::message));
+                default:
+                    unset = true;
+
+                    if (skipWhenUnset)
+                        return null;
+
+                    if (isIgnorable(Validate.Ignore.ALTERNATIVES) || property.alternatives.length == 0)
+                        return violation(Violation.Clause.MANDATORY, property, property.annotation().alternatives());
+
+                    return validateAlternatives(property);
+            }
+        } catch (NestedViolationsException e) {
+            throw e;
+        } catch (InvalidCollectionFieldException e) {
+            if (skipWhenUnset)
+                return null;
+
+            return Violation.of(property.name(), target.getName(), property.constraint(),
+                    new InvalidFieldException(() -> "Collection " + property.name() + "[" + (e.index() < 0 ? "" : e.index()) + "] : " + e.getMessage()));
+        } catch (InvalidFieldException ife) {
+            if (skipWhenUnset)
+                return null;
+
+            return Violation.of(property.name(), target.getName(), property.constraint(), ife);
+        }
+    }
+}
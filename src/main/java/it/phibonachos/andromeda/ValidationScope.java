@@ -0,0 +1,200 @@
+package it.phibonachos.andromeda;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Immutable settings of a validation run, handed to validation classes on every call,
+ * so that validation classes never need to store them and a single instance can be shared.</p>
+ *
+ * <p>Scopes handed to validation classes also carry the graph of the ongoing validation:
+ * the objects being validated along the current path and the outcomes of nested objects already validated.</p>
+ */
+public final class ValidationScope {
+    /**
+     * Scope of a validation restricted to no context and ignoring none.
+     * Its budget is shared by every use of this scope, {@code withBudget(null)} gives a copy with a budget of its own.
+     */
+    public static final ValidationScope EMPTY = new ValidationScope(Set.of(), Set.of(), Set.of(), null, null, null, null, TimeBudget.none(), true);
+
+    private final Set<String> contexts, ignoreContexts;
+    private final Set<Validate.Ignore> ignoreClauses;
+    private final ContextsKey contextsKey;
+    private final ValidationGraph graph;
+    private final Object owner;
+    private final ValidationScope parent;
+    private final ValidationMetrics metrics;
+    private final TimeBudget budget;
+    // false while collecting every violation, nested objects included
+    private final boolean failFast;
+    // nested validations requested by the owner run, counted only when metrics are collected
+    private final LongAdder fanOut;
+
+    private ValidationScope(Set<String> contexts, Set<String> ignoreContexts, Set<Validate.Ignore> ignoreClauses, ValidationGraph graph, Object owner, ValidationScope parent, ValidationMetrics metrics, TimeBudget budget, boolean failFast) {
+        this.contexts = contexts;
+        this.ignoreContexts = ignoreContexts;
+        this.ignoreClauses = ignoreClauses;
+        this.contextsKey = parent != null ? parent.contextsKey : new ContextsKey(contexts, ignoreContexts);
+        this.graph = graph;
+        this.owner = owner;
+        this.parent = parent;
+        this.metrics = metrics;
+        this.budget = budget;
+        this.failFast = failFast;
+        this.fanOut = metrics != null && owner != null ? new LongAdder() : null;
+    }
+
+    /**
+     * @param contexts Contexts to which validation must be restricted
+     * @param ignoreContexts Contexts to ignore during validation
+     * @return a new scope
+     */
+    public static ValidationScope of(Set<String> contexts, Set<String> ignoreContexts) {
+        return of(contexts, ignoreContexts, Set.of());
+    }
+
+    /**
+     * @param contexts Contexts to which validation must be restricted
+     * @param ignoreContexts Contexts to ignore during validation
+     * @param ignoreClauses Clauses to ignore during validation
+     * @return a new scope
+     */
+    public static ValidationScope of(Set<String> contexts, Set<String> ignoreContexts, Set<Validate.Ignore> ignoreClauses) {
+        return new ValidationScope(Set.copyOf(contexts), Set.copyOf(ignoreContexts), Set.copyOf(ignoreClauses), null, null, null, null, TimeBudget.none(), true);
+    }
+
+    /**
+     * @param metrics Listener notified of validation timings and failures, null to collect nothing
+     * @return a copy of this scope reporting to the given listener
+     */
+    public ValidationScope withMetrics(ValidationMetrics metrics) {
+        return new ValidationScope(contexts, ignoreContexts, ignoreClauses, graph, owner, parent, metrics, budget, failFast);
+    }
+
+    /**
+     * @param budget Time budgets of property checks and validations, null for a new {@link TimeBudget#none()}
+     * @return a copy of this scope checking the given budgets
+     */
+    public ValidationScope withBudget(TimeBudget budget) {
+        return new ValidationScope(contexts, ignoreContexts, ignoreClauses, graph, owner, parent, metrics, budget == null ? TimeBudget.none() : budget, failFast);
+    }
+
+    /**
+     * @return contexts to which validation must be restricted, empty if not restricted
+     */
+    public Set<String> contexts() {
+        return contexts;
+    }
+
+    /**
+     * @return contexts to ignore during validation
+     */
+    public Set<String> ignoreContexts() {
+        return ignoreContexts;
+    }
+
+    /**
+     * @return clauses to ignore during validation
+     */
+    public Set<Validate.Ignore> ignoreClauses() {
+        return ignoreClauses;
+    }
+
+    /**
+     * @param target Object about to be validated
+     * @return the scope of the target validation, joining the graph of this scope or starting a new one
+     */
+    ValidationScope enter(Object target) {
+        return new ValidationScope(contexts, ignoreContexts, ignoreClauses, graph == null ? new ValidationGraph() : graph, target, this, metrics, budget, failFast);
+    }
+
+    /**
+     * @return a copy of this scope collecting every violation, nested objects included
+     */
+    ValidationScope collectingAll() {
+        return failFast ? new ValidationScope(contexts, ignoreContexts, ignoreClauses, graph, owner, parent, metrics, budget, false) : this;
+    }
+
+    /**
+     * @return true if validations stop at the first violation, false if nested objects report every violation too
+     */
+    boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * @param target Object to be validated
+     * @return true if the target is being validated along the current path, which means it references itself
+     */
+    boolean visiting(Object target) {
+        for (ValidationScope current = this; current != null; current = current.parent)
+            if (current.owner == target)
+                return true;
+
+        return false;
+    }
+
+    /**
+     * @return listener of the ongoing validation, null if none is registered
+     */
+    ValidationMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * @return time budgets of the ongoing validation, a {@link TimeBudget#none()} of its own if none is set
+     */
+    TimeBudget budget() {
+        return budget;
+    }
+
+    /**
+     * @return nested validations requested so far by the run owning this scope, null if metrics are not collected
+     */
+    LongAdder fanOut() {
+        return fanOut;
+    }
+
+    /**
+     * @return the graph of the ongoing validation, null if none started
+     */
+    ValidationGraph graph() {
+        return graph;
+    }
+
+    /**
+     * @return key of the restricted and ignored contexts, equal for scopes with the same contexts
+     */
+    Object contextsKey() {
+        return contextsKey;
+    }
+
+    // hash computed once, as keys are looked up on every validation
+    private static final class ContextsKey {
+        private final Set<String> contexts, ignoreContexts;
+        private final int hash;
+
+        private ContextsKey(Set<String> contexts, Set<String> ignoreContexts) {
+            this.contexts = contexts;
+            this.ignoreContexts = ignoreContexts;
+            this.hash = Objects.hash(contexts, ignoreContexts);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof ContextsKey))
+                return false;
+
+            ContextsKey other = (ContextsKey) o;
+            return hash == other.hash && contexts.equals(other.contexts) && ignoreContexts.equals(other.ignoreContexts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,8 +1,31 @@
 package it.phibonachos.andromeda;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface Validator {
     Boolean validate() throws Exception;
 
+    /**
+     * <p>Runs every applicable clause, collecting violations instead of throwing on the first one.</p>
+     *
+     * @return the validation result, listing every violation found
+     */
+    ValidationResult validateAll();
+
+    /**
+     * <p>Collects violations as {@link #validateAll()} does, without waiting for asynchronous validation classes.
+     * This default implementation validates synchronously.</p>
+     *
+     * @return a future completing with the validation result
+     */
+    default CompletableFuture<ValidationResult> validateAsync() {
+        try {
+            return CompletableFuture.completedFuture(validateAll());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     Validator ignoreClauses(Validate.Ignore ...clauses);
 
     Validator ignoreContexts(String ...contexts);
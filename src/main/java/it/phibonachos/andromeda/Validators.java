@@ -0,0 +1,145 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.exception.NestedViolationsException;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Factory of {@link ClassValidator}s, validators bound to a class rather than to a single object.</p>
+ *
+ * <pre>{@code
+ * ClassValidator<Foo> validator = Validators.forClass(Foo.class).onlyContexts("create").build();
+ * validator.validate(foo);
+ * }</pre>
+ */
+public final class Validators {
+    private Validators() {
+    }
+
+    /**
+     * @param type Class to be validated
+     * @param <T> Validated class
+     * @return a builder of validators for the given class
+     */
+    public static <T> Builder<T> forClass(Class<T> type) {
+        return new Builder<>(Objects.requireNonNull(type));
+    }
+
+    /**
+     * <p>Validates an object within the scope of an ongoing validation, as validation classes do with nested objects and collection elements.
+     * The cached plan of the object class is reused and settings are inherited as they are.</p>
+     *
+     * <p>Each instance is validated once per validation, later occurrences reuse its outcome.
+     * An instance referencing itself, directly or through other objects, is considered valid where the reference is met,
+     * as it is already being validated along the current path.</p>
+     *
+     * <p>Validations collecting every violation collect those of the object too, reporting them by a {@link NestedViolationsException}.</p>
+     *
+     * @param target Object to be validated
+     * @param scope Settings of the ongoing validation
+     * @return true if the object is valid
+     * @throws Exception describing the first violation found, or every violation while collecting all of them
+     */
+    public static Boolean validate(Object target, ValidationScope scope) throws Exception {
+        if (scope.visiting(target))
+            return true;
+
+        if (scope.fanOut() != null)
+            scope.fanOut().increment();
+
+        ValidationPlan plan = ValidationPlan.of(target.getClass());
+        if (scope.graph() == null)
+            return validate(target, plan, scope);
+
+        return scope.graph().validate(target, () -> validate(target, plan, scope));
+    }
+
+    private static Boolean validate(Object target, ValidationPlan plan, ValidationScope scope) throws Exception {
+        ValidationResult result = new ValidationRun(target, plan, scope).run(scope.isFailFast());
+        if (scope.isFailFast() || result.isValid())
+            return result.orElseThrow();
+
+        throw new NestedViolationsException(result.violations());
+    }
+
+    /**
+     * <p>Collects validation settings, the same ones provided by {@link Validator}.</p>
+     *
+     * @param <T> Validated class
+     */
+    public static final class Builder<T> {
+        private final Class<T> type;
+        private Set<String> contexts = Set.of(), ignoreContexts = Set.of();
+        private Set<Validate.Ignore> ignoreClauses = Set.of();
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private ValidationMetrics metrics;
+        private TimeBudget budget;
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * @param ignorable Clauses to ignore during validation
+         * @return this builder
+         */
+        public Builder<T> ignoreClauses(Validate.Ignore... ignorable) {
+            this.ignoreClauses = Set.of(ignorable);
+            return this;
+        }
+
+        /**
+         * @param ignorable Contexts to ignore during validation
+         * @return this builder
+         */
+        public Builder<T> ignoreContexts(String... ignorable) {
+            this.ignoreContexts = Set.of(ignorable);
+            return this;
+        }
+
+        /**
+         * @param contexts Contexts to which validation must be restricted
+         * @return this builder
+         */
+        public Builder<T> onlyContexts(String... contexts) {
+            this.contexts = Set.of(contexts);
+            return this;
+        }
+
+        /**
+         * @param pool Pool running batch validations
+         * @return this builder
+         */
+        public Builder<T> pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool);
+            return this;
+        }
+
+        /**
+         * @param metrics Listener notified of validation timings and failures, null to collect nothing
+         * @return this builder
+         */
+        public Builder<T> metrics(ValidationMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @param budget Time budgets of property checks and validations, null for none
+         * @return this builder
+         */
+        public Builder<T> budget(TimeBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * @return an immutable validator, which can be shared among threads
+         */
+        public ClassValidator<T> build() {
+            return new ClassValidator<>(ValidationPlan.of(type), ValidationScope.of(contexts, ignoreContexts, ignoreClauses).withMetrics(metrics).withBudget(budget), pool);
+        }
+    }
+}
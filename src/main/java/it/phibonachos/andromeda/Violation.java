@@ -0,0 +1,135 @@
+package it.phibonachos.andromeda;
+
+import it.phibonachos.andromeda.exception.*;
+import it.phibonachos.andromeda.types.Constraint;
+import it.phibonachos.ponos.converters.ConverterException;
+
+import java.util.List;
+
+/**
+ * <p>A single failed clause, as collected by {@link Validator#validateAll()}.</p>
+ */
+public final class Violation {
+    /**
+     * <p>Clause which has not been satisfied.</p>
+     */
+    public enum Clause {MANDATORY, REQUIRES, CONFLICTS, ALTERNATIVES, CONSTRAINT, BUDGET}
+
+    private final String path, getter;
+    private final Clause clause;
+    private final Class<? extends Constraint> constraint;
+    private final List<String> properties;
+    private final ConverterException failure;
+
+    private Violation(String path, String getter, Clause clause, Class<? extends Constraint> constraint, List<String> properties, ConverterException failure) {
+        this.path = path;
+        this.getter = getter;
+        this.clause = clause;
+        this.constraint = constraint;
+        this.properties = properties;
+        this.failure = failure;
+    }
+
+    static Violation of(Clause clause, String path, String getter, Class<? extends Constraint> constraint, String... properties) {
+        return new Violation(path, getter, clause, constraint, List.of(properties), null);
+    }
+
+    static Violation of(String path, String getter, Class<? extends Constraint> constraint, ConverterException failure) {
+        return new Violation(path, getter, Clause.CONSTRAINT, constraint, List.of(), failure);
+    }
+
+    static Violation of(String path, String getter, Class<? extends Constraint> constraint, BudgetExceededException failure) {
+        return new Violation(path, getter, Clause.BUDGET, constraint, List.of(), failure);
+    }
+
+    /**
+     * @param owner Path of the property holding the nested object this violation was found on
+     * @return the same violation, with its path starting from the owner of the nested object
+     */
+    Violation within(String owner) {
+        return new Violation(owner + "." + path, getter, clause, constraint, properties, failure);
+    }
+
+    /**
+     * @return the path of the invalid property, starting from the validated object, as in {@code outer.inner} or {@code items[3].inner}
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * @return name of the annotated getter
+     */
+    public String getter() {
+        return getter;
+    }
+
+    /**
+     * @return the clause which has not been satisfied
+     */
+    public Clause clause() {
+        return clause;
+    }
+
+    /**
+     * @return the validation class of the invalid property
+     */
+    public Class<? extends Constraint> constraint() {
+        return constraint;
+    }
+
+    /**
+     * @return the properties involved by the clause: requirements, conflicts or alternatives
+     */
+    public List<String> properties() {
+        return properties;
+    }
+
+    /**
+     * @return a human readable description of the violation, rendered on each call
+     */
+    public String message() {
+        return toException().getMessage();
+    }
+
+    /**
+     * @return the exception thrown by fail-fast validations for this violation
+     */
+    public ConverterException toException() {
+        switch (clause) {
+            case MANDATORY:
+                return new InvalidFieldException(getter, properties);
+            case ALTERNATIVES:
+                return new NoAlternativeException(getter, properties);
+            case REQUIRES:
+                return new RequirementsException(getter, properties);
+            case CONFLICTS:
+                return new ConflictFieldException(getter, properties);
+            default:
+                return failure;
+        }
+    }
+
+    /**
+     * @return type of the exception describing this violation, without instantiating it
+     */
+    Class<? extends ConverterException> failureType() {
+        switch (clause) {
+            case MANDATORY:
+                return InvalidFieldException.class;
+            case ALTERNATIVES:
+                return NoAlternativeException.class;
+            case REQUIRES:
+                return RequirementsException.class;
+            case CONFLICTS:
+                return ConflictFieldException.class;
+            default:
+                return failure.getClass();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path + " [" + clause + "]: " + message();
+    }
+}
@@ -0,0 +1,73 @@
+package it.phibonachos.andromeda.exception;
+
+import it.phibonachos.ponos.converters.ConverterException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Describes a property check, or a whole validation, which took longer than its time budget.</p>
+ */
+public class BudgetExceededException extends ConverterException {
+    private final String methodName;
+    private final Class<?> constraint;
+    private final long elapsedNanos, budgetNanos;
+    private String message;
+
+    /**
+     * @param methodName Name of the getter checked last
+     * @param constraint Validation class over budget, null if the whole validation is over budget
+     * @param elapsedNanos Time taken
+     * @param budgetNanos Time budget
+     */
+    public BudgetExceededException(String methodName, Class<?> constraint, long elapsedNanos, long budgetNanos) {
+        super((String) null);
+        this.methodName = methodName;
+        this.constraint = constraint;
+        this.elapsedNanos = elapsedNanos;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * @return name of the getter checked last
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return validation class over budget, null if the whole validation is over budget
+     */
+    public Class<?> constraint() {
+        return constraint;
+    }
+
+    /**
+     * @return time taken in nanoseconds
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return time budget in nanoseconds
+     */
+    public long budgetNanos() {
+        return budgetNanos;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null)
+            message = (constraint != null
+                    ? PropertyNames.of(methodName) + " checked by " + constraint.getSimpleName() + " took "
+                    : "validation stopped at " + PropertyNames.of(methodName) + ", it took ")
+                    + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms, over its budget of " + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + " ms";
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
+}
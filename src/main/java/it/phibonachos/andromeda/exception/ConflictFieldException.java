@@ -2,25 +2,54 @@ package it.phibonachos.andromeda.exception;
 
 import it.phibonachos.ponos.converters.ConverterException;
 
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class ConflictFieldException extends ConverterException {
+    private final String methodName;
+    private final List<String> conflicts;
+    private String message;
+
     public ConflictFieldException(String message) {
         super(message);
+        this.methodName = null;
+        this.conflicts = List.of();
+        this.message = message;
     }
 
     public ConflictFieldException(String methodName, List<String> conflicts) {
-        this(Stream.of(methodName)
-                .map(name -> name.replaceAll("^(get|is|has)", ""))
-                .map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1)))
-                .collect(Collectors.joining())
-                + (conflicts.size() > 0
-                    ? " clashes with: "
-                        + String.join(", ", conflicts)
-                    : " do not clash with anything (then why this message?!)")
-                + ".");
+        super((String) null);
+        this.methodName = methodName;
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * @return name of the getter clashing with its conflicts
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return conflicting properties
+     */
+    public List<String> conflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && methodName != null)
+            message = PropertyNames.of(methodName)
+                    + (conflicts.size() > 0
+                        ? " clashes with: " + String.join(", ", conflicts)
+                        : " do not clash with anything (then why this message?!)")
+                    + ".";
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
     }
 }
@@ -6,4 +6,9 @@ public class CyclicRequirementException extends ConverterException {
     public CyclicRequirementException(String message) {
         super(message);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
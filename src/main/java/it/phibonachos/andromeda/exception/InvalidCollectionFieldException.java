@@ -1,8 +1,21 @@
 package it.phibonachos.andromeda.exception;
 
 public class InvalidCollectionFieldException extends InvalidFieldException {
+    private final int index;
+
     public InvalidCollectionFieldException(String message) {
+        this(-1, message);
+    }
+
+    public InvalidCollectionFieldException(int index, String message) {
         super(message);
+        this.index = index;
     }
 
+    /**
+     * @return position of the invalid element, -1 if unknown
+     */
+    public int index() {
+        return index;
+    }
 }
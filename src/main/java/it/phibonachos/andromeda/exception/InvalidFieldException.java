@@ -3,23 +3,72 @@ package it.phibonachos.andromeda.exception;
 import it.phibonachos.ponos.converters.ConverterException;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
+/**
+ * <p>Thrown by an invalid or missing property. The message is rendered only when requested.</p>
+ */
 public class InvalidFieldException extends ConverterException {
+    private final String methodName;
+    private final List<String> alternatives;
+    private final Supplier<String> render;
+    private String message;
+
     public InvalidFieldException(String message) {
         super(message);
+        this.methodName = null;
+        this.alternatives = List.of();
+        this.render = null;
+        this.message = message;
+    }
+
+    /**
+     * @param message Supplier of the message, called at most once when the message is first requested
+     */
+    public InvalidFieldException(Supplier<String> message) {
+        super((String) null);
+        this.methodName = null;
+        this.alternatives = List.of();
+        this.render = message;
     }
 
     public InvalidFieldException(String methodName, List<String> alternatives) {
-        this(alternatives.size() == 0
-                ? Stream.of(methodName)
-                    .map(name -> name.replaceAll("^(get|is|has)", ""))
-                    .map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1)))
-                    .collect(Collectors.joining())
-                    + " cannot be null"
-                : "Illegal state, set at least one of these values: "
-                    + Stream.concat(alternatives.stream(), Stream.of(methodName))
-                    .collect(Collectors.joining(", ")));
+        super((String) null);
+        this.methodName = methodName;
+        this.alternatives = alternatives;
+        this.render = null;
+    }
+
+    /**
+     * @return name of the missing getter, null if the exception has been raised by a validation class
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return alternatives of the missing property
+     */
+    public List<String> alternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            if (render != null)
+                message = render.get();
+            else if (methodName != null)
+                message = alternatives.isEmpty()
+                        ? PropertyNames.of(methodName) + " cannot be null"
+                        : "Illegal state, set at least one of these values: " + String.join(", ", alternatives) + ", " + methodName;
+        }
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
     }
 }
@@ -4,20 +4,47 @@ import it.phibonachos.ponos.converters.ConverterException;
 
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class InvalidNestedFieldException extends ConverterException {
+    private final Method method;
+    private final List<String> alternatives;
+    private String message;
 
     public InvalidNestedFieldException(String message) {
         super(message);
+        this.method = null;
+        this.alternatives = null;
+        this.message = message;
     }
 
     public InvalidNestedFieldException(Method method) {
-        super(Stream.of(method.getName()).map(name -> name.replaceAll("^(get|is|has)", "")).map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1))).collect(Collectors.joining()) + " cannot be null");
+        this(method, null);
     }
 
     public InvalidNestedFieldException(Method method, List<String> alternatives) {
-        this("Illegal state, set at least one of these values: " + Stream.concat(alternatives.stream(), Stream.of(method.getName())).map(name -> name.replaceAll("^(get|is|has)", "")).map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1))).reduce((s1, s2) ->s1 +", "+s2).orElse(""));
+        super((String) null);
+        this.method = method;
+        this.alternatives = alternatives;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && method != null) {
+            if (alternatives == null)
+                message = PropertyNames.of(method.getName()) + " cannot be null";
+            else {
+                StringBuilder values = new StringBuilder("Illegal state, set at least one of these values: ");
+                for (String alternative : alternatives)
+                    values.append(PropertyNames.of(alternative)).append(", ");
+                message = values.append(PropertyNames.of(method.getName())).toString();
+            }
+        }
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
     }
 }
@@ -0,0 +1,54 @@
+package it.phibonachos.andromeda.exception;
+
+import it.phibonachos.andromeda.Violation;
+
+import java.util.List;
+
+/**
+ * <p>Thrown by a nested object, or by an element of a collection, validated while collecting every violation.
+ * Violations are relative to the nested object, the validation of its owner prefixing their paths with the owner property.
+ * The message is the one of the first violation, rendered only when requested.</p>
+ */
+public class NestedViolationsException extends InvalidFieldException {
+    private final List<Violation> violations;
+    private final int index;
+
+    /**
+     * @param violations Violations of the nested object, at least one
+     */
+    public NestedViolationsException(List<Violation> violations) {
+        this(violations, -1);
+    }
+
+    /**
+     * @param violations Violations of the nested object, at least one
+     * @param index Position of the nested object within its collection, -1 if not an element
+     */
+    public NestedViolationsException(List<Violation> violations, int index) {
+        super(() -> violations.get(0).message());
+        this.violations = List.copyOf(violations);
+        this.index = index;
+    }
+
+    /**
+     * @return violations of the nested object, with paths relative to it
+     */
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    /**
+     * @return position of the nested object within its collection, -1 if not an element
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @param index Position of the nested object within its collection
+     * @return the same violations, as found on the element at the given position
+     */
+    public NestedViolationsException at(int index) {
+        return new NestedViolationsException(violations, index);
+    }
+}
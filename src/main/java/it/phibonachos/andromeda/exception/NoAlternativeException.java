@@ -2,24 +2,56 @@ package it.phibonachos.andromeda.exception;
 
 import it.phibonachos.ponos.converters.ConverterException;
 
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class NoAlternativeException extends ConverterException {
 
     private static final long serialVersionUID = -2042599547601466529L;
 
+    private final String methodName;
+    private final List<String> alternatives;
+    private String message;
+
     public NoAlternativeException(String message) {
         super(message);
+        this.methodName = null;
+        this.alternatives = List.of();
+        this.message = message;
     }
 
     public NoAlternativeException(String methodName, List<String> alternatives) {
-        this( Stream.of(methodName).map(name -> name.replaceAll("^(get|is|has)", "")).map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1))).collect(Collectors.joining())
-                + (alternatives.size() > 0
-                ? " or " + String.join(", ", alternatives) : "")
-                + " as fallback" + (alternatives.size() > 1 ? "s"  : "")
-        );
+        super((String) null);
+        this.methodName = methodName;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * @return name of the missing getter
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return fallback properties, all of them missing
+     */
+    public List<String> alternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && methodName != null)
+            message = PropertyNames.of(methodName)
+                    + (alternatives.size() > 0
+                    ? " or " + String.join(", ", alternatives) : "")
+                    + " as fallback" + (alternatives.size() > 1 ? "s"  : "");
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
     }
 }
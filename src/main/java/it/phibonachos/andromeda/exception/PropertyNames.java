@@ -0,0 +1,37 @@
+package it.phibonachos.andromeda.exception;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Turns getter names into the property names shown by failure messages (e.g. {@code getProp} into {@code prop}).</p>
+ *
+ * <p>Names are computed once per getter and cached, as they are read on every rendered message.</p>
+ */
+public final class PropertyNames {
+    private static final String[] PREFIXES = {"get", "is", "has"};
+    private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+
+    private PropertyNames() {
+    }
+
+    /**
+     * @param getter Name of the getter
+     * @return the getter name without its get, is or has prefix and with a lowercase first letter
+     */
+    public static String of(String getter) {
+        String name = NAMES.get(getter);
+        return name != null ? name : NAMES.computeIfAbsent(getter, PropertyNames::strip);
+    }
+
+    private static String strip(String getter) {
+        String name = getter;
+        for (String prefix : PREFIXES)
+            if (getter.startsWith(prefix)) {
+                name = getter.substring(prefix.length());
+                break;
+            }
+
+        return name.isEmpty() ? getter : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
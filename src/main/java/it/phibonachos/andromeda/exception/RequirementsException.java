@@ -2,25 +2,54 @@ package it.phibonachos.andromeda.exception;
 
 import it.phibonachos.ponos.converters.ConverterException;
 
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class RequirementsException extends ConverterException {
+    private final String methodName;
+    private final List<String> requirements;
+    private String message;
+
     public RequirementsException(String message) {
         super(message);
+        this.methodName = null;
+        this.requirements = List.of();
+        this.message = message;
     }
 
     public RequirementsException(String methodName, List<String> requirements) {
-        this(Stream.of(methodName)
-                .map(name -> name.replaceAll("^(get|is|has)", ""))
-                .map(name -> name.substring(0, 1).toLowerCase().concat(name.substring(1)))
-                .collect(Collectors.joining())
-            + (requirements.size() > 0
-            ? " requires fields: " + String.join(", ", requirements)
-            : " do not have any requirements (then why this message?!)")
-            + ".");
+        super((String) null);
+        this.methodName = methodName;
+        this.requirements = requirements;
+    }
+
+    /**
+     * @return name of the getter whose requirements are not satisfied
+     */
+    public String methodName() {
+        return methodName;
+    }
+
+    /**
+     * @return required properties
+     */
+    public List<String> requirements() {
+        return requirements;
     }
 
+    @Override
+    public String getMessage() {
+        if (message == null && methodName != null)
+            message = PropertyNames.of(methodName)
+                    + (requirements.size() > 0
+                    ? " requires fields: " + String.join(", ", requirements)
+                    : " do not have any requirements (then why this message?!)")
+                    + ".";
+
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
@@ -0,0 +1,33 @@
+package it.phibonachos.andromeda.exception;
+
+/**
+ * <p>States whether validation exceptions capture their stack trace.</p>
+ *
+ * <p>Validation failures are an expected outcome and their stack trace is rarely useful, so it is not captured by default.
+ * Capture can be enabled while debugging, calling {@link #enable(boolean)} or setting the {@value #PROPERTY} system property to true.</p>
+ */
+public final class StackTraces {
+    /**
+     * System property enabling stack trace capture at startup.
+     */
+    public static final String PROPERTY = "andromeda.stacktrace";
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private StackTraces() {
+    }
+
+    /**
+     * @return true if validation exceptions capture their stack trace
+     */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled true to capture the stack trace of validation exceptions thrown from now on
+     */
+    public static void enable(boolean enabled) {
+        StackTraces.enabled = enabled;
+    }
+}
@@ -0,0 +1,109 @@
+package it.phibonachos.andromeda.metrics;
+
+import it.phibonachos.andromeda.ValidationMetrics;
+import it.phibonachos.andromeda.types.Constraint;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Built-in {@link ValidationMetrics}, keeping a {@link StripedHistogram} of durations per validated class and per validation class,
+ * failure counts per exception type and a histogram of nested validations per validated class.</p>
+ *
+ * <p>Histograms are aggregated so that recording never allocates past the first value of each key:
+ * checks are recorded per validation class whatever the validated class and getter, failures per exception type only.
+ * Listeners needing finer keys can implement {@link ValidationMetrics} themselves, receiving the validated class and getter of each check.</p>
+ *
+ * <pre>{@code
+ * HistogramMetrics metrics = new HistogramMetrics();
+ * ClassValidator<Foo> validator = Validators.forClass(Foo.class).metrics(metrics).build();
+ * ...
+ * metrics.validations(Foo.class).valueAt(99);
+ * }</pre>
+ */
+public class HistogramMetrics implements ValidationMetrics {
+    private final Map<Class<?>, StripedHistogram> validations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, StripedHistogram> constraints = new ConcurrentHashMap<>();
+    private final Map<Class<?>, StripedHistogram> fanOut = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> failures = new ConcurrentHashMap<>();
+
+    @Override
+    public void validated(Class<?> type, long nanos, boolean valid) {
+        histogram(validations, type).record(nanos);
+    }
+
+    // aggregated per validation class, see the class description
+    @Override
+    public void checked(Class<?> type, String getter, Class<? extends Constraint> constraint, long nanos) {
+        histogram(constraints, constraint).record(nanos);
+    }
+
+    @Override
+    public void failed(Class<?> type, String getter, Class<? extends Exception> failure) {
+        LongAdder count = failures.get(failure);
+        if (count == null)
+            count = failures.computeIfAbsent(failure, k -> new LongAdder());
+
+        count.increment();
+    }
+
+    @Override
+    public void fannedOut(Class<?> type, String getter, long nested) {
+        histogram(fanOut, type).record(nested);
+    }
+
+    /**
+     * @param type Validated class
+     * @return durations in nanoseconds of the validations of the given class, empty if none
+     */
+    public StripedHistogram validations(Class<?> type) {
+        return lookup(validations, type);
+    }
+
+    /**
+     * @param constraint Validation class
+     * @return durations in nanoseconds of the checks of properties annotated with the given validation class, across every validated class and getter, empty if none
+     */
+    public StripedHistogram constraints(Class<? extends Constraint> constraint) {
+        return lookup(constraints, constraint);
+    }
+
+    /**
+     * @param type Validated class
+     * @return nested validations requested by each property check of the given class, empty if none
+     */
+    public StripedHistogram fanOut(Class<?> type) {
+        return lookup(fanOut, type);
+    }
+
+    /**
+     * @param failure Exception type
+     * @return number of failures described by the given exception type
+     */
+    public long failures(Class<? extends Exception> failure) {
+        LongAdder count = failures.get(failure);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return validated classes recorded so far
+     */
+    public Set<Class<?>> validatedTypes() {
+        return Collections.unmodifiableSet(validations.keySet());
+    }
+
+    // read without registering the key, nor allocating when nothing has been recorded
+    private static StripedHistogram lookup(Map<Class<?>, StripedHistogram> histograms, Class<?> key) {
+        StripedHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : StripedHistogram.empty();
+    }
+
+    // lookup first, as the histogram is almost always already there
+    private static StripedHistogram histogram(Map<Class<?>, StripedHistogram> histograms, Class<?> key) {
+        StripedHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new StripedHistogram());
+    }
+}
@@ -0,0 +1,151 @@
+package it.phibonachos.andromeda.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Cumulative statistics of the property checks and validations which took longer than their time budget.</p>
+ *
+ * <p>Statistics are updated concurrently by the validating threads, and read as weakly consistent snapshots.</p>
+ */
+public final class SlowConstraints {
+    private final Map<Key, Counters> constraints = new ConcurrentHashMap<>();
+    private final Counters validations = new Counters();
+
+    /**
+     * @param constraint Validation class over budget
+     * @param getter Name of the checked getter
+     * @param nanos Time taken by the check
+     */
+    public void record(Class<?> constraint, String getter, long nanos) {
+        Key key = new Key(constraint, getter);
+        Counters counters = constraints.get(key);
+        if (counters == null)
+            counters = constraints.computeIfAbsent(key, k -> new Counters());
+
+        counters.record(nanos);
+    }
+
+    /**
+     * @param nanos Time taken by a validation over budget
+     */
+    public void recordValidation(long nanos) {
+        validations.record(nanos);
+    }
+
+    /**
+     * @return the checks over budget so far, grouped by validation class and getter, the most time consuming first
+     */
+    public List<Entry> constraints() {
+        return constraints.entrySet().stream()
+                .map(e -> new Entry(e.getKey().constraint, e.getKey().getter, e.getValue()))
+                .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return number of validations over budget so far
+     */
+    public long validations() {
+        return validations.count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return constraints().toString();
+    }
+
+    /**
+     * <p>Checks over budget of a single getter with a single validation class.</p>
+     */
+    public static final class Entry {
+        private final Class<?> constraint;
+        private final String getter;
+        private final long count, totalNanos, maxNanos;
+
+        private Entry(Class<?> constraint, String getter, Counters counters) {
+            this.constraint = constraint;
+            this.getter = getter;
+            this.count = counters.count.sum();
+            this.totalNanos = counters.total.sum();
+            this.maxNanos = counters.max.get();
+        }
+
+        public Class<?> constraint() {
+            return constraint;
+        }
+
+        public String getter() {
+            return getter;
+        }
+
+        /**
+         * @return number of checks over budget
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return time taken by the checks over budget
+         */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return time taken by the slowest check
+         */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return constraint.getSimpleName() + "@" + getter + ": count=" + count + ", total=" + totalNanos + "ns, max=" + maxNanos + "ns";
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder(), total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> constraint;
+        private final String getter;
+
+        private Key(Class<?> constraint, String getter) {
+            this.constraint = constraint;
+            this.getter = getter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+            return constraint == other.constraint && getter.equals(other.getter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(constraint, getter);
+        }
+    }
+}
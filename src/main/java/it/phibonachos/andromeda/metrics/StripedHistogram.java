@@ -0,0 +1,153 @@
+package it.phibonachos.andromeda.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Concurrent histogram of non-negative values, such as durations in nanoseconds.</p>
+ *
+ * <p>Buckets are log-linear, as in HdrHistogram: each power of two is split into 8 linear buckets,
+ * so that recorded values are reported with a relative error below 12.5%, from 0 up to 2<sup>44</sup> (about 4.8 hours in nanoseconds).
+ * Larger values fall in the last bucket.</p>
+ *
+ * <p>Counters are striped by thread, so that threads recording at the same time rarely update the same counter.
+ * Recording never allocates nor locks, reading sums the stripes and is therefore only weakly consistent with concurrent updates.</p>
+ */
+public final class StripedHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_BITS = 44;
+    private static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * SUB_BUCKETS;
+    private static final int STRIPES = Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), 16);
+    private static final StripedHistogram EMPTY = new StripedHistogram(true);
+
+    // stripe s holds its buckets at [s * BUCKETS, (s + 1) * BUCKETS), none if empty
+    private final AtomicLongArray counts;
+    private final LongAdder total = new LongAdder();
+    private final boolean empty;
+
+    public StripedHistogram() {
+        this(false);
+    }
+
+    private StripedHistogram(boolean empty) {
+        this.empty = empty;
+        this.counts = new AtomicLongArray(empty ? 0 : STRIPES * BUCKETS);
+    }
+
+    /**
+     * @return a shared histogram holding no value, which ignores recorded values
+     */
+    static StripedHistogram empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param value Value to be recorded, negative values being recorded as 0
+     */
+    public void record(long value) {
+        if (empty)
+            return;
+
+        long recorded = Math.max(value, 0);
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        counts.incrementAndGet(stripe * BUCKETS + bucket(recorded));
+        total.add(recorded);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++)
+            count += counts.get(i);
+
+        return count;
+    }
+
+    /**
+     * @return sum of the recorded values
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * @return mean of the recorded values, 0 if none
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total() / count;
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @return the highest value of the bucket holding the given percentile, 0 if no value has been recorded
+     */
+    public long valueAt(double percentile) {
+        long[] buckets = buckets();
+        long count = 0;
+        for (long bucket : buckets)
+            count += bucket;
+
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank)
+                return highest(i);
+        }
+
+        return highest(BUCKETS - 1);
+    }
+
+    /**
+     * @return the highest value of the bucket holding the largest recorded value, 0 if no value has been recorded
+     */
+    public long max() {
+        long[] buckets = buckets();
+        for (int i = BUCKETS - 1; i >= 0; i--)
+            if (buckets[i] > 0)
+                return highest(i);
+
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count() + ", mean=" + (long) mean() + ", p50=" + valueAt(50) + ", p99=" + valueAt(99) + ", max=" + max();
+    }
+
+    /* ----------------- PRIVATE METHODS ----------------- */
+    // stripes summed bucket by bucket
+    private long[] buckets() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < counts.length(); i++)
+            buckets[i % BUCKETS] += counts.get(i);
+
+        return buckets;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        // values within [2^m, 2^(m+1)) are split in SUB_BUCKETS buckets of width 2^(m - SUB_BITS)
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        int bucket = (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long highest(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
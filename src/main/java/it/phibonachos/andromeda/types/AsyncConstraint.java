@@ -0,0 +1,61 @@
+package it.phibonachos.andromeda.types;
+
+import it.phibonachos.andromeda.ValidationScope;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>Defines a {@link Constraint} whose verdict is not immediately available, such as a lookup on a remote service.</p>
+ *
+ * <p>Asynchronous validations, started through {@code validateAsync}, call {@link #checkAsync(ValidationScope, Object...)} without waiting for the outcome,
+ * so that lookups of different properties are in flight at the same time and no thread is blocked meanwhile.
+ * Synchronous validations wait for the outcome instead.</p>
+ */
+public abstract class AsyncConstraint extends MultiConstraint {
+
+    /**
+     * @param scope Settings of the current validation
+     * @param props Annotated property, never null, followed by its bound properties
+     * @return a stage completing with the verdict, null if the annotated property must be considered unset,
+     * or completing exceptionally with an {@link it.phibonachos.andromeda.exception.InvalidFieldException} describing the failure
+     */
+    public abstract CompletionStage<Boolean> validateAsync(ValidationScope scope, Object... props);
+
+    /**
+     * <p>Asynchronous counterpart of {@link #check(ValidationScope, Object...)}.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param props Annotated property followed by its bound properties
+     * @return a stage completing with the verdict on given properties
+     */
+    public CompletionStage<Verdict> checkAsync(ValidationScope scope, Object... props) {
+        if (props[0] == null)
+            return CompletableFuture.completedFuture(Verdict.UNSET);
+
+        try {
+            return validateAsync(scope, props).thenApply(Verdict::of);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Boolean convertAll(Object... objects) throws Exception {
+        return convertAll(ValidationScope.EMPTY, objects);
+    }
+
+    // synchronous validations wait for the outcome
+    @Override
+    protected Boolean convertAll(ValidationScope scope, Object... objects) throws Exception {
+        try {
+            return validateAsync(scope, objects).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+
+            throw e;
+        }
+    }
+}
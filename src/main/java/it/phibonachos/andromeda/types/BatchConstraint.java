@@ -0,0 +1,36 @@
+package it.phibonachos.andromeda.types;
+
+import it.phibonachos.andromeda.ValidationScope;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * <p>Defines a single property {@link Constraint} which checks many values with a single call, such as a bulk query or a sorted merge against reference data.</p>
+ *
+ * <p>Bulk validations, started through {@code ClassValidator.validateAll(Collection)}, gather the values of every object
+ * for all the properties annotated with the same validation class, and call {@link #validateBatch(ValidationScope, List)} once.
+ * Single validations call it with a single value.</p>
+ *
+ * @param <T> Type of the annotated properties
+ */
+public abstract class BatchConstraint<T> extends SoloConstraint<T> {
+
+    /**
+     * @param scope Settings of the current validation
+     * @param guards Values to be checked, never null, possibly repeated
+     * @return a set holding the index of each valid value
+     * @throws Exception if the values cannot be checked, failing every object of the batch
+     */
+    public abstract BitSet validateBatch(ValidationScope scope, List<T> guards) throws Exception;
+
+    @Override
+    public Boolean validate(T guard) throws Exception {
+        return validateBatch(ValidationScope.EMPTY, List.of(guard)).get(0);
+    }
+
+    @Override
+    protected Verdict verdict(ValidationScope scope, T guard) throws Exception {
+        return validateBatch(scope, List.of(guard)).get(0) ? Verdict.VALID : Verdict.INVALID;
+    }
+}
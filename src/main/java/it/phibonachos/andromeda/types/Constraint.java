@@ -1,5 +1,6 @@
 package it.phibonachos.andromeda.types;
 
+import it.phibonachos.andromeda.ValidationScope;
 import it.phibonachos.ponos.converters.Converter;
 
 import java.util.Set;
@@ -7,4 +8,70 @@ import java.util.Set;
 public interface Constraint extends Converter<Boolean> {
     void setContext(Set<String> context);
     void setIgnoreContext(Set<String> ignoreContext);
+
+    /**
+     * <p>Evaluates properties within the scope of the current validation.
+     * Implementations annotated with {@link Stateless} must not keep any state between calls.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param props Annotated property followed by its bound properties
+     * @return true if properties are valid
+     * @throws Exception if properties are not valid
+     */
+    default Boolean evaluate(ValidationScope scope, Object... props) throws Exception {
+        setContext(scope.contexts());
+        setIgnoreContext(scope.ignoreContexts());
+        return evaluate(props);
+    }
+
+    /**
+     * <p>Evaluates properties within the scope of the current validation, reporting the outcome as a {@link Verdict} instead of an exception.
+     * This default implementation adapts {@link #evaluate(ValidationScope, Object...)}, reading a {@link NullPointerException} as an unset property.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param props Annotated property followed by its bound properties
+     * @return the verdict on given properties
+     * @throws Exception if the evaluation fails
+     */
+    default Verdict check(ValidationScope scope, Object... props) throws Exception {
+        try {
+            return Verdict.of(evaluate(scope, props));
+        } catch (NullPointerException npe) {
+            return Verdict.UNSET;
+        }
+    }
+
+    /**
+     * <p>Single property counterpart of {@link #check(ValidationScope, Object...)}, called when no property is bound to the annotated one.
+     * Fixed-arity validation classes implement it without allocating any argument array.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param prop Annotated property
+     * @return the verdict on the given property
+     * @throws Exception if the evaluation fails
+     */
+    default Verdict check1(ValidationScope scope, Object prop) throws Exception {
+        return check(scope, new Object[]{prop});
+    }
+
+    /**
+     * <p>Two properties counterpart of {@link #check(ValidationScope, Object...)}, called when a single property is bound to the annotated one.
+     * Fixed-arity validation classes implement it without allocating any argument array.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param prop Annotated property
+     * @param bound Bound property
+     * @return the verdict on the given properties
+     * @throws Exception if the evaluation fails
+     */
+    default Verdict check2(ValidationScope scope, Object prop, Object bound) throws Exception {
+        return check(scope, new Object[]{prop, bound});
+    }
+
+    /**
+     * @return the failure message for {@link Verdict#INVALID} verdicts
+     */
+    default String message() {
+        return "fails constraint defined in " + this.getClass().getSimpleName();
+    }
 }
@@ -1,15 +1,49 @@
 package it.phibonachos.andromeda.types;
 
+import it.phibonachos.andromeda.ValidationScope;
+
 public abstract class DuetConstraint<F,S> extends MultiConstraint {
 
     @Override
     @SuppressWarnings("unchecked")
     protected Boolean convertAll(Object... objects) throws Exception {
-        return validate((F) objects[0], (S)objects[1]);
+        return verdict((F) objects[0], (S)objects[1]).asBoolean();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Boolean convertAll(ValidationScope scope, Object... objects) throws Exception {
+        return verdict(scope, (F) objects[0], (S) objects[1]).asBoolean();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Verdict check2(ValidationScope scope, Object prop, Object bound) throws Exception {
+        return prop == null ? Verdict.UNSET : verdict(scope, (F) prop, (S) bound);
     }
 
     public abstract Boolean validate(F guard, S boundGuard) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object, Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(F guard, S boundGuard) throws Exception {
+        return Verdict.of(validate(guard, boundGuard));
+    }
+
+    /**
+     * <p>Scoped counterpart of {@link #verdict(Object, Object)}, validation classes which depend on the current validation settings override this one.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param guard Annotated property
+     * @param boundGuard Bound property
+     * @return the verdict on the given properties
+     * @throws Exception if properties are not valid
+     */
+    protected Verdict verdict(ValidationScope scope, F guard, S boundGuard) throws Exception {
+        return verdict(guard, boundGuard);
+    }
+
     @Override
     public int arity() {
         return 2;
@@ -1,5 +1,6 @@
 package it.phibonachos.andromeda.types;
 
+import it.phibonachos.andromeda.ValidationScope;
 import it.phibonachos.andromeda.exception.InvalidFieldException;
 import it.phibonachos.ponos.converters.MultiValueConverter;
 
@@ -10,17 +11,50 @@ import java.util.Set;
  * Defines a {@link Constraint} which elaborate boolean verdicts, it can be used to validate a single or multiple properties.
  */
 public abstract class MultiConstraint extends MultiValueConverter<Boolean> implements Constraint {
+    /**
+     * Contexts set through {@link #setContext(Set)} and {@link #setIgnoreContext(Set)}, used by {@link #evaluate(Object...)}.
+     * Validations set them on every fresh instance, they are left unset on the shared instance of a {@link Stateless} class,
+     * which must read contexts from the {@link ValidationScope} instead.
+     */
     protected String[] context, ignoreContext;
 
     @Override
     public Boolean evaluate(Object... props) throws Exception {
+        return evaluate(ValidationScope.of(
+                context == null ? Set.of() : Set.of(context),
+                ignoreContext == null ? Set.of() : Set.of(ignoreContext)), props);
+    }
+
+    @Override
+    public Boolean evaluate(ValidationScope scope, Object... props) throws Exception {
+        switch (check(scope, props)) {
+            case UNSET:
+                throw new NullPointerException();
+            case INVALID:
+                throw new InvalidFieldException(this.message());
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public Verdict check(ValidationScope scope, Object... props) throws Exception {
         if(Objects.isNull(props[0]))
-            throw new NullPointerException();
+            return Verdict.UNSET;
 
-        if(!super.evaluate(props))
-            throw new InvalidFieldException(this.message());
+        return Verdict.of(convertAll(scope, props));
+    }
 
-        return true;
+    /**
+     * <p>Scoped counterpart of {@link #convertAll(Object...)}, validation classes which depend on the current validation settings override this one.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param objects Annotated property followed by its bound properties
+     * @return the verdict, null if the annotated property must be considered unset
+     * @throws Exception if properties are not valid
+     */
+    protected Boolean convertAll(ValidationScope scope, Object... objects) throws Exception {
+        return super.evaluate(objects);
     }
 
     @Override
@@ -5,11 +5,18 @@ public abstract class OctetConstraint<G1,G2,G3,G4,G5,G6,G7,G8> extends MultiCons
     @Override
     @SuppressWarnings("unchecked")
     protected Boolean convertAll(Object... objects) throws Exception {
-        return validate((G1) objects[0], (G2)objects[1], (G3)objects[2], (G4) objects[3], (G5) objects[4], (G6) objects[5], (G7) objects[6], (G8) objects[7]);
+        return verdict((G1) objects[0], (G2)objects[1], (G3)objects[2], (G4) objects[3], (G5) objects[4], (G6) objects[5], (G7) objects[6], (G8) objects[7]).asBoolean();
     }
 
     public abstract Boolean validate(G1 firstGuard, G2 secondGuard, G3 thirdGuard, G4 fourthGuard, G5 fifthGuard, G6 sixthGuard, G7 seventhGuard, G8 eighthGuard) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object, Object, Object, Object, Object, Object, Object, Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(G1 firstGuard, G2 secondGuard, G3 thirdGuard, G4 fourthGuard, G5 fifthGuard, G6 sixthGuard, G7 seventhGuard, G8 eighthGuard) throws Exception {
+        return Verdict.of(validate(firstGuard, secondGuard, thirdGuard, fourthGuard, fifthGuard, sixthGuard, seventhGuard, eighthGuard));
+    }
+
     public int arity() {
         return 8;
     }
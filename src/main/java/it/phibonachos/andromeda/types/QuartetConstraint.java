@@ -5,13 +5,20 @@ public abstract class QuartetConstraint<G1,G2,G3,G4> extends MultiConstraint {
     @Override
     @SuppressWarnings("unchecked")
     protected Boolean convertAll(Object... objects) throws Exception {
-        return validate((G1) objects[0], (G2) objects[1], (G3) objects[2], (G4) objects[3]);
+        return verdict((G1) objects[0], (G2) objects[1], (G3) objects[2], (G4) objects[3]).asBoolean();
     }
 
     public abstract Boolean validate(G1 firstGuard, G2 secondGuard, G3 thirdGuard, G4 fourthGuard) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object, Object, Object, Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(G1 firstGuard, G2 secondGuard, G3 thirdGuard, G4 fourthGuard) throws Exception {
+        return Verdict.of(validate(firstGuard, secondGuard, thirdGuard, fourthGuard));
+    }
+
     @Override
     public int arity() {
-        return 2;
+        return 4;
     }
 }
@@ -5,13 +5,20 @@ public abstract class SextetConstraint<G1,G2,G3,G4,G5,G6> extends MultiConstrain
     @Override
     @SuppressWarnings("unchecked")
     protected Boolean convertAll(Object... objects) throws Exception {
-        return validate((G1) objects[0], (G2) objects[1], (G3) objects[2], (G4) objects[3], (G5) objects[4], (G6) objects[5]);
+        return verdict((G1) objects[0], (G2) objects[1], (G3) objects[2], (G4) objects[3], (G5) objects[4], (G6) objects[5]).asBoolean();
     }
 
     public abstract Boolean validate(G1 guard, G2 boundGuard, G3 thirdGuard, G4 fourthGuard, G5 fifthGuard, G6 sixthGuard) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object, Object, Object, Object, Object, Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(G1 guard, G2 boundGuard, G3 thirdGuard, G4 fourthGuard, G5 fifthGuard, G6 sixthGuard) throws Exception {
+        return Verdict.of(validate(guard, boundGuard, thirdGuard, fourthGuard, fifthGuard, sixthGuard));
+    }
+
     @Override
     public int arity() {
-        return 2;
+        return 6;
     }
 }
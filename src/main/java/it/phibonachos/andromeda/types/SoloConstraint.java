@@ -1,15 +1,48 @@
 package it.phibonachos.andromeda.types;
 
+import it.phibonachos.andromeda.ValidationScope;
+
 public abstract class SoloConstraint<T> extends MultiConstraint {
 
     @Override
     @SuppressWarnings("unchecked")
     public Boolean convertAll(Object ...objects) throws Exception {
-        return validate((T) objects[0]);
+        return verdict((T) objects[0]).asBoolean();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Boolean convertAll(ValidationScope scope, Object... objects) throws Exception {
+        return verdict(scope, (T) objects[0]).asBoolean();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Verdict check1(ValidationScope scope, Object prop) throws Exception {
+        return prop == null ? Verdict.UNSET : verdict(scope, (T) prop);
     }
 
     public abstract Boolean validate(T target) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(T target) throws Exception {
+        return Verdict.of(validate(target));
+    }
+
+    /**
+     * <p>Scoped counterpart of {@link #verdict(Object)}, validation classes which depend on the current validation settings override this one.</p>
+     *
+     * @param scope Settings of the current validation
+     * @param target Annotated property
+     * @return the verdict on the given property
+     * @throws Exception if the property is not valid
+     */
+    protected Verdict verdict(ValidationScope scope, T target) throws Exception {
+        return verdict(target);
+    }
+
     public int arity() {
         return 1;
     }
@@ -0,0 +1,16 @@
+package it.phibonachos.andromeda.types;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>Marks a validation class as free of per-validation state.
+ * A single instance of a stateless validation class is created once and shared across validations and threads,
+ * validation state such as contexts is only received through {@link Constraint#evaluate(it.phibonachos.andromeda.ValidationScope, Object...)}.</p>
+ *
+ * <p>The marker is not inherited: subclasses must declare it again once they are sure not to add any state.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Stateless {
+}
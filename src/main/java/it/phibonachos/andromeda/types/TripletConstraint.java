@@ -5,13 +5,20 @@ public abstract class TripletConstraint<G1,G2,G3> extends MultiConstraint {
     @Override
     @SuppressWarnings("unchecked")
     protected Boolean convertAll(Object... objects) throws Exception {
-        return validate((G1) objects[0], (G2) objects[1], (G3) objects[2]);
+        return verdict((G1) objects[0], (G2) objects[1], (G3) objects[2]).asBoolean();
     }
 
     public abstract Boolean validate(G1 firstGuard, G2 secondGuard, G3 thirdGuard) throws Exception;
 
+    /**
+     * <p>Tri-state counterpart of {@link #validate(Object, Object, Object)}, override it to report an unset property as {@link Verdict#UNSET}.</p>
+     */
+    public Verdict verdict(G1 firstGuard, G2 secondGuard, G3 thirdGuard) throws Exception {
+        return Verdict.of(validate(firstGuard, secondGuard, thirdGuard));
+    }
+
     @Override
     public int arity() {
-        return 2;
+        return 3;
     }
 }
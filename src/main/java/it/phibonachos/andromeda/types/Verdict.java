@@ -0,0 +1,24 @@
+package it.phibonachos.andromeda.types;
+
+/**
+ * <p>Outcome of a {@link Constraint} evaluation.
+ * Unset properties are reported as {@link #UNSET} so that evaluators can tell them apart from invalid ones without relying on exceptions.</p>
+ */
+public enum Verdict {
+    VALID, INVALID, UNSET;
+
+    /**
+     * @param verdict Boolean verdict, null standing for an unset property
+     * @return the matching verdict
+     */
+    public static Verdict of(Boolean verdict) {
+        return verdict == null ? UNSET : verdict ? VALID : INVALID;
+    }
+
+    /**
+     * @return the matching Boolean verdict, null standing for an unset property
+     */
+    public Boolean asBoolean() {
+        return this == UNSET ? null : this == VALID;
+    }
+}
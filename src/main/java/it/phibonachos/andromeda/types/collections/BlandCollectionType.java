@@ -1,9 +1,11 @@
 package it.phibonachos.andromeda.types.collections;
 
 import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Stateless;
 
 import java.util.Collection;
 
+@Stateless
 public class BlandCollectionType<T, C extends Collection<T>> extends SoloConstraint<C> {
 
     @Override
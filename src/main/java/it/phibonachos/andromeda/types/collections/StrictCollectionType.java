@@ -1,21 +1,167 @@
 package it.phibonachos.andromeda.types.collections;
 
-import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.exception.InvalidCollectionFieldException;
 import it.phibonachos.andromeda.exception.InvalidFieldException;
-import it.phibonachos.utils.FunctionalUtils;
-import it.phibonachos.utils.FunctionalWrapper;
+import it.phibonachos.andromeda.exception.NestedViolationsException;
+import it.phibonachos.andromeda.types.Stateless;
+import it.phibonachos.andromeda.types.Verdict;
+import it.phibonachos.ponos.converters.ConverterException;
 
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * <p>Validates every element of a non-empty collection, stopping at the first invalid one and reporting its position.
+ * Elements are validated within the scope of the collection owner, inheriting contexts and ignored clauses.
+ * Validations collecting every violation report all those of the first invalid element, under the path of the annotated property and the element position.</p>
+ *
+ * <p>Collections larger than {@link #parallelThreshold()} are split across {@link #pool()}:
+ * chunks following an already found failure are skipped, while preceding ones are still checked, so that the reported element is always the first invalid one.</p>
+ *
+ * @param <T> Element class
+ * @param <C> Collection class
+ */
+@Stateless
 public class StrictCollectionType<T, C extends Collection<T>> extends BlandCollectionType<T, C> {
+    private static final int CHUNK = 512;
+
+    /**
+     * @return Minimum size of collections validated in parallel.
+     */
+    public int parallelThreshold() {
+        return 4096;
+    }
+
+    /**
+     * @return Pool validating large collections.
+     */
+    public ForkJoinPool pool() {
+        return ForkJoinPool.commonPool();
+    }
 
     @Override
     public Boolean validate(C guard) throws InvalidFieldException {
-        return super.validate(guard) && guard.size() > 0 && guard.stream()
-            .map(FunctionalUtils.tryCatch(item -> new ValidateEvaluator<>(item).validate()))
-            .reduce((a, b) -> a && b)
-            .orElse(false);
+        return validateElements(guard, ValidationScope.EMPTY);
+    }
+
+    @Override
+    protected Verdict verdict(ValidationScope scope, C guard) throws Exception {
+        return Verdict.of(validateElements(guard, scope));
+    }
+
+    /**
+     * @param guard Collection to be validated
+     * @param scope Settings of the current validation
+     * @return true if every element is valid
+     * @throws InvalidFieldException describing the first invalid element, a {@link NestedViolationsException} while collecting every violation
+     */
+    protected Boolean validateElements(C guard, ValidationScope scope) throws InvalidFieldException {
+        if (!super.validate(guard) || guard.isEmpty())
+            return false;
+
+        Failure failure;
+        if (guard.size() >= parallelThreshold()) {
+            AtomicReference<Failure> first = new AtomicReference<>();
+            Object[] items = guard.toArray();
+            pool().invoke(new Chunk(items, 0, items.length, scope, first));
+            failure = first.get();
+        } else {
+            failure = null;
+            int index = 0;
+            for (T item : guard) {
+                Exception e = check(item, scope);
+                if (e != null) {
+                    failure = new Failure(index, e);
+                    break;
+                }
+                index++;
+            }
+        }
+
+        if (failure == null)
+            return true;
+
+        if (failure.cause instanceof NestedViolationsException)
+            throw ((NestedViolationsException) failure.cause).at(failure.index);
+
+        if (failure.cause instanceof ConverterException)
+            throw new InvalidCollectionFieldException(failure.index, failure.cause.getMessage());
 
+        throw failure.cause instanceof RuntimeException ? (RuntimeException) failure.cause : new RuntimeException(failure.cause);
     }
 
+    /**
+     * @param item Element to be validated
+     * @param scope Settings of the current validation
+     * @return the failure, null if the element is valid
+     */
+    protected Exception check(Object item, ValidationScope scope) {
+        if (item == null)
+            return new InvalidFieldException("element cannot be null");
+
+        try {
+            Validators.validate(item, scope);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static final class Failure {
+        private final int index;
+        private final Exception cause;
+
+        private Failure(int index, Exception cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+
+    // never serialized, as it holds the elements being validated
+    @SuppressWarnings("serial")
+    private final class Chunk extends RecursiveAction {
+        private final Object[] items;
+        private final int from, to;
+        private final ValidationScope scope;
+        private final AtomicReference<Failure> first;
+
+        private Chunk(Object[] items, int from, int to, ValidationScope scope, AtomicReference<Failure> first) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.scope = scope;
+            this.first = first;
+        }
+
+        @Override
+        protected void compute() {
+            if (skip())
+                return;
+
+            if (to - from > CHUNK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk(items, from, middle, scope, first), new Chunk(items, middle, to, scope, first));
+                return;
+            }
+
+            for (int i = from; i < to && !skip(); i++) {
+                Exception e = check(items[i], scope);
+                if (e != null) {
+                    Failure failure = new Failure(i, e);
+                    first.accumulateAndGet(failure, (a, b) -> a == null || b.index < a.index ? b : a);
+                    return;
+                }
+            }
+        }
+
+        // a failure before this chunk makes its elements irrelevant
+        private boolean skip() {
+            Failure failure = first.get();
+            return failure != null && failure.index < from;
+        }
+    }
 }
@@ -1,11 +1,20 @@
 package it.phibonachos.andromeda.types.mono;
 
 import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Stateless;
+import it.phibonachos.andromeda.types.Verdict;
 
+@Stateless
 public class BooleanConstraint extends SoloConstraint<Boolean> {
 
     @Override
     public Boolean validate(java.lang.Boolean guard) {
-        return !guard ? null : true;
+        return guard;
+    }
+
+    // a false flag is considered as not set
+    @Override
+    public Verdict verdict(java.lang.Boolean guard) {
+        return guard ? Verdict.VALID : Verdict.UNSET;
     }
 }
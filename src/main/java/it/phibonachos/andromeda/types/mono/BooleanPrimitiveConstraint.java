@@ -0,0 +1,27 @@
+package it.phibonachos.andromeda.types.mono;
+
+import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+
+/**
+ * <p>Base of validation classes for {@code boolean} properties.
+ * Getters returning {@code boolean} are read and checked through {@link #validate(boolean)} without boxing,
+ * while {@link java.lang.Boolean} getters are unboxed, a null value being unset.</p>
+ */
+public abstract class BooleanPrimitiveConstraint extends SoloConstraint<java.lang.Boolean> {
+
+    public abstract boolean validate(boolean guard) throws Exception;
+
+    @Override
+    public Boolean validate(java.lang.Boolean guard) throws Exception {
+        return guard != null && validate(guard.booleanValue());
+    }
+
+    @Override
+    public Verdict verdict(java.lang.Boolean guard) throws Exception {
+        if (guard == null)
+            return Verdict.UNSET;
+
+        return validate(guard.booleanValue()) ? Verdict.VALID : Verdict.INVALID;
+    }
+}
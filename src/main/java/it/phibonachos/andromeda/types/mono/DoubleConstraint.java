@@ -0,0 +1,27 @@
+package it.phibonachos.andromeda.types.mono;
+
+import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+
+/**
+ * <p>Base of validation classes for {@code double} properties.
+ * Getters returning {@code double} are read and checked through {@link #validate(double)} without boxing,
+ * while {@link Double} getters are unboxed, a null value being unset.</p>
+ */
+public abstract class DoubleConstraint extends SoloConstraint<Double> {
+
+    public abstract boolean validate(double guard) throws Exception;
+
+    @Override
+    public Boolean validate(Double guard) throws Exception {
+        return guard != null && validate(guard.doubleValue());
+    }
+
+    @Override
+    public Verdict verdict(Double guard) throws Exception {
+        if (guard == null)
+            return Verdict.UNSET;
+
+        return validate(guard.doubleValue()) ? Verdict.VALID : Verdict.INVALID;
+    }
+}
@@ -0,0 +1,27 @@
+package it.phibonachos.andromeda.types.mono;
+
+import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+
+/**
+ * <p>Base of validation classes for {@code int} properties.
+ * Getters returning {@code int} are read and checked through {@link #validate(int)} without boxing,
+ * while {@link Integer} getters are unboxed, a null value being unset.</p>
+ */
+public abstract class IntConstraint extends SoloConstraint<Integer> {
+
+    public abstract boolean validate(int guard) throws Exception;
+
+    @Override
+    public Boolean validate(Integer guard) throws Exception {
+        return guard != null && validate(guard.intValue());
+    }
+
+    @Override
+    public Verdict verdict(Integer guard) throws Exception {
+        if (guard == null)
+            return Verdict.UNSET;
+
+        return validate(guard.intValue()) ? Verdict.VALID : Verdict.INVALID;
+    }
+}
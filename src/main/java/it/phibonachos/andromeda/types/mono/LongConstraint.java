@@ -0,0 +1,27 @@
+package it.phibonachos.andromeda.types.mono;
+
+import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+
+/**
+ * <p>Base of validation classes for {@code long} properties.
+ * Getters returning {@code long} are read and checked through {@link #validate(long)} without boxing,
+ * while {@link Long} getters are unboxed, a null value being unset.</p>
+ */
+public abstract class LongConstraint extends SoloConstraint<Long> {
+
+    public abstract boolean validate(long guard) throws Exception;
+
+    @Override
+    public Boolean validate(Long guard) throws Exception {
+        return guard != null && validate(guard.longValue());
+    }
+
+    @Override
+    public Verdict verdict(Long guard) throws Exception {
+        if (guard == null)
+            return Verdict.UNSET;
+
+        return validate(guard.longValue()) ? Verdict.VALID : Verdict.INVALID;
+    }
+}
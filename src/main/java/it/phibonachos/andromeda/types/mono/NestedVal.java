@@ -1,32 +1,36 @@
 package it.phibonachos.andromeda.types.mono;
 
-import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.NestedViolationsException;
 import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Stateless;
+import it.phibonachos.andromeda.types.Verdict;
 
 /**
  * <p>This class provides a handful way to propagate validation on nested objects.
- * A new validator will be instantiated to validate the child object.</p>
+ * The child object is validated within the scope of its parent, inheriting contexts and ignored clauses, and reusing the cached {@link it.phibonachos.andromeda.ValidationPlan} of its class.
+ * Validations collecting every violation report those of the child too, under the path of the annotated property.</p>
  *
  * @param <T> Generic class to be validated
  */
+@Stateless
 public class NestedVal<T> extends SoloConstraint<T> {
-    private String nestedError = "";
 
     @Override
     public Boolean validate(T guard) throws Exception {
-        try {
-            return new ValidateEvaluator<>(guard)
-                    .onlyContexts(this.context)
-                    .ignoreContexts(this.ignoreContext)
-                    .validate();
-        } catch(Exception e){
-            this.nestedError = e.getMessage();
-            return false;
-        }
+        return verdict(ValidationScope.EMPTY, guard).asBoolean();
     }
 
     @Override
-    public String message(){
-        return this.nestedError + "[nested]";
+    protected Verdict verdict(ValidationScope scope, T guard) throws Exception {
+        try {
+            return Verdict.of(Validators.validate(guard, scope));
+        } catch (NestedViolationsException e) {
+            throw e;
+        } catch(Exception e){
+            throw new InvalidFieldException(e.getMessage() + "[nested]");
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,19 @@
 package it.phibonachos.andromeda.types.mono;
 
 import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Stateless;
+import it.phibonachos.andromeda.types.Verdict;
 
-import java.util.Optional;
-
+@Stateless
 public class NumericConstraint<NT extends Number> extends SoloConstraint<NT> {
 
     @Override
     public Boolean validate(NT guard) {
-        return Optional.ofNullable(guard).map(val -> true).orElseThrow(NullPointerException::new);
+        return guard != null;
+    }
+
+    @Override
+    public Verdict verdict(NT guard) throws Exception {
+        return guard != null ? super.verdict(guard) : Verdict.UNSET;
     }
 }
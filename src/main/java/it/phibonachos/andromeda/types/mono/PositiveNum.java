@@ -1,11 +1,12 @@
 package it.phibonachos.andromeda.types.mono;
 
-import java.util.Optional;
+import it.phibonachos.andromeda.types.Stateless;
 
+@Stateless
 public class PositiveNum<NT extends Number> extends NumericConstraint<NT> {
     @Override
     public Boolean validate(NT number) {
-        return super.validate(number) && Optional.ofNullable(number.doubleValue() > 0 ? true : null).orElse(false);
+        return super.validate(number) && number.doubleValue() > 0;
     }
 
     @Override
@@ -1,22 +1,85 @@
 package it.phibonachos.andromeda.types.mono;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
 /**
  * <p>This class provides a template to validate strings using regex.</p>
+ *
+ * <p>Patterns are compiled once and reused: the first pattern compiled by a subclass is kept for the whole subclass,
+ * and read without locking by each of its instances as long as {@link #regex()} and {@link #flags()} do not change.
+ * Subclasses whose {@link #regex()} is dynamic fall back to a bounded cache shared among every subclass, each instance keeping the last pattern it used.
+ * As kept patterns are thread-safe caches, subclasses can still be marked as {@link it.phibonachos.andromeda.types.Stateless}.</p>
  */
 public abstract class RegexClass extends StringConstraint {
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, Pattern> PATTERNS = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    private static final ClassValue<AtomicReference<Pattern>> CLASS_PATTERNS = new ClassValue<>() {
+        @Override
+        protected AtomicReference<Pattern> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private volatile Pattern pattern;
 
     /**
      * @return The regex to match.
      */
     public abstract java.lang.String regex();
 
+    /**
+     * @return Match flags, as defined in {@link Pattern#compile(java.lang.String, int)}.
+     */
+    public int flags() {
+        return 0;
+    }
+
     @Override
     public Boolean validate(java.lang.String guard) {
-        return super.validate(guard) && guard.matches(regex());
+        return super.validate(guard) && pattern().matcher(guard).matches();
     }
 
     @Override
     public java.lang.String message() {
         return "Do not match regex: " + regex();
     }
+
+    /**
+     * @return The compiled {@link #regex()}, compiling it only if not already cached.
+     */
+    protected Pattern pattern() {
+        java.lang.String regex = regex();
+        int flags = flags();
+
+        AtomicReference<Pattern> shared = CLASS_PATTERNS.get(getClass());
+        Pattern current = shared.get();
+        if (current == null && !shared.compareAndSet(null, current = Pattern.compile(regex, flags)))
+            current = shared.get();
+
+        if (matches(current, regex, flags))
+            return current;
+
+        // dynamic regex, looked up in the bounded cache only when it changes
+        current = this.pattern;
+        if (current == null || !matches(current, regex, flags)) {
+            current = PATTERNS.computeIfAbsent(flags + ":" + regex, key -> Pattern.compile(regex, flags));
+            this.pattern = current;
+        }
+
+        return current;
+    }
+
+    private static boolean matches(Pattern pattern, java.lang.String regex, int flags) {
+        return pattern.flags() == flags && pattern.pattern().equals(regex);
+    }
 }
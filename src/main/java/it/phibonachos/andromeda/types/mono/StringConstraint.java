@@ -1,8 +1,10 @@
 package it.phibonachos.andromeda.types.mono;
 
 import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Stateless;
 import org.apache.commons.lang3.StringUtils;
 
+@Stateless
 public class StringConstraint extends SoloConstraint<java.lang.String> {
 
     @Override
@@ -1,25 +1,35 @@
 package it.phibonachos.processor;
 
+import it.phibonachos.andromeda.GeneratedValidator;
 import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.AsyncConstraint;
 import it.phibonachos.andromeda.types.MultiConstraint;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
-import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.*;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * <p>Checks {@link Validate} annotations at compile time and generates a {@link GeneratedValidator} for each annotated class,
+ * so that properties are read and constraints instantiated without reflection.</p>
+ */
 public class ValidateProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(Validate.class);
+        Map<TypeElement, List<ExecutableElement>> validated = new LinkedHashMap<>();
+        Set<TypeElement> invalid = new HashSet<>();
 
         for(Element e : elements){
             if(!e.getKind().equals(ElementKind.METHOD)) {
@@ -27,29 +37,41 @@ public class ValidateProcessor extends AbstractProcessor {
                 continue;
             }
 
+            TypeElement owner = (TypeElement) e.getEnclosingElement();
+            validated.computeIfAbsent(owner, k -> new ArrayList<>()).add((ExecutableElement) e);
+
             Validate validate = e.getAnnotation(Validate.class);
-            Class<? extends MultiConstraint> mvc = validate.with();
-            List<Method> validationMethod = Arrays.stream(mvc.getMethods()).filter(method -> method.getName().equals("validate")).collect(Collectors.toList());
+            TypeElement mvc = constraintOf(validate);
+            // asynchronous validation classes take any number of properties through validateAsync(scope, props...)
+            if(isAsync(mvc))
+                continue;
+
+            List<ExecutableElement> validationMethod = validationMethods(mvc);
 
             if(validationMethod.size() < 1) {
-                error(e, "%s do not provide any validate(args...) method", mvc.getCanonicalName());
+                error(e, "%s do not provide any validate(args...) method", mvc.getQualifiedName());
+                invalid.add(owner);
                 continue;
-            } else if(validationMethod.size() > 1) {
-                error(e, "%s should provide only one validate(args...) method", mvc.getCanonicalName());
+            } else if(validationMethod.stream().map(m -> m.getParameters().size()).distinct().count() > 1) {
+                error(e, "%s should provide only one validate(args...) method", mvc.getQualifiedName());
+                invalid.add(owner);
                 continue;
             }
 
-            int arity = validationMethod.get(0).getParameterCount();
+            // the annotated property is always the first argument, bound properties follow
+            int arity = validationMethod.get(0).getParameters().size();
             int bounded = validate.boundTo().length;
-            if(arity != bounded) {
+            if(arity != bounded + 1) {
                 error(e, "%s provides validate(args...) with %s arguments but %s boundTo clause provides %s properties", mvc.getSimpleName(), arity, e.getSimpleName(), bounded);
-                continue;
+                invalid.add(owner);
             }
-
-
-
         }
 
+        validated.forEach((type, getters) -> {
+            if(!invalid.contains(type) && isGenerable(type))
+                generate(type, getters);
+        });
+
         return true;
     }
 
@@ -62,6 +84,129 @@ public class ValidateProcessor extends AbstractProcessor {
         return SourceVersion.latestSupported();
     }
 
+    /* ----------------- GENERATION ----------------- */
+    private void generate(TypeElement type, List<ExecutableElement> annotated) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + GeneratedValidator.SUFFIX;
+        String targetName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        Map<String, ExecutableElement> getters = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+                .filter(this::isGetter)
+                .collect(Collectors.toMap(m -> m.getSimpleName().toString(), m -> m, (a, b) -> a));
+
+        // every referenced name (getter or property) is mapped to the getter it reads
+        Map<String, ExecutableElement> fetched = new LinkedHashMap<>();
+        for (ExecutableElement getter : annotated) {
+            Validate v = getter.getAnnotation(Validate.class);
+            fetched.put(getter.getSimpleName().toString(), getter);
+            Stream.of(v.boundTo(), v.requires(), v.conflicts(), v.alternatives())
+                    .flatMap(Arrays::stream)
+                    .forEach(property -> {
+                        ExecutableElement resolved = resolve(getters, property);
+                        // left out of the generated fetch, as the plan reports it only if the clause is evaluated
+                        if (resolved == null)
+                            warn(getter, "%s does not expose any getter for %s", type.getSimpleName(), property);
+                        else
+                            fetched.putIfAbsent(property, resolved);
+                    });
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter())) {
+            if (!packageName.isEmpty())
+                out.printf("package %s;%n%n", packageName);
+
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", ValidateProcessor.class.getName());
+            out.printf("@SuppressWarnings({\"rawtypes\", \"unchecked\"})%n");
+            out.printf("public final class %s implements %s<%s> {%n", simpleName, GeneratedValidator.class.getCanonicalName(), targetName);
+
+            out.printf("    @Override%n    public Object fetch(%s target, String property) {%n        switch (property) {%n", targetName);
+            fetched.entrySet().stream()
+                    .collect(Collectors.groupingBy(Map.Entry::getValue, LinkedHashMap::new, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                    .forEach((getter, names) -> {
+                        names.forEach(name -> out.printf("            case \"%s\":%n", name));
+                        out.printf("                return target.%s();%n", getter.getSimpleName());
+                    });
+            out.printf("            default:%n                throw new IllegalArgumentException(property);%n        }%n    }%n%n");
+
+            out.printf("    @Override%n    public %s constraint(String getter) {%n        switch (getter) {%n", MultiConstraint.class.getCanonicalName());
+            for (ExecutableElement getter : annotated) {
+                TypeElement constraint = constraintOf(getter.getAnnotation(Validate.class));
+                if (isInstantiable(constraint))
+                    out.printf("            case \"%s\":%n                return new %s();%n", getter.getSimpleName(), constraint.getQualifiedName());
+            }
+            out.printf("            default:%n                return null;%n        }%n    }%n}%n");
+        } catch (IOException e) {
+            error(type, "cannot generate %s: %s", simpleName, e.getMessage());
+        }
+    }
+
+    /* ----------------- PRIVATE METHODS ----------------- */
+    private TypeElement constraintOf(Validate validate) {
+        try {
+            return processingEnv.getElementUtils().getTypeElement(validate.with().getCanonicalName());
+        } catch (MirroredTypeException mte) {
+            return (TypeElement) processingEnv.getTypeUtils().asElement(mte.getTypeMirror());
+        }
+    }
+
+    // validate(args...) declared by the closest class in the constraint hierarchy, overloads (e.g. primitive ones) share the same arity
+    private List<ExecutableElement> validationMethods(TypeElement constraint) {
+        for (TypeElement current = constraint; current != null; current = superclassOf(current)) {
+            List<ExecutableElement> methods = ElementFilter.methodsIn(current.getEnclosedElements()).stream()
+                    .filter(m -> m.getSimpleName().contentEquals("validate"))
+                    .collect(Collectors.toList());
+
+            if (!methods.isEmpty())
+                return methods;
+        }
+        return List.of();
+    }
+
+    private boolean isAsync(TypeElement constraint) {
+        TypeElement async = processingEnv.getElementUtils().getTypeElement(AsyncConstraint.class.getCanonicalName());
+        return async != null && processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(constraint.asType()), processingEnv.getTypeUtils().erasure(async.asType()));
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) processingEnv.getTypeUtils().asElement(superclass) : null;
+    }
+
+    private ExecutableElement resolve(Map<String, ExecutableElement> getters, String property) {
+        String capitalized = property.isEmpty() ? property : property.substring(0, 1).toUpperCase().concat(property.substring(1));
+        return Stream.of("get" + capitalized, "is" + capitalized, "has" + capitalized, property)
+                .map(getters::get)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean isGetter(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && !((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    // generated classes live in the target package, so the validated type must be reachable from there
+    private boolean isGenerable(TypeElement type) {
+        for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement())
+            if (!(current instanceof TypeElement) || current.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+
+        return true;
+    }
+
+    private boolean isInstantiable(TypeElement constraint) {
+        return constraint.getModifiers().contains(Modifier.PUBLIC)
+                && !constraint.getModifiers().contains(Modifier.ABSTRACT)
+                && (constraint.getNestingKind() == NestingKind.TOP_LEVEL || constraint.getModifiers().contains(Modifier.STATIC))
+                && ElementFilter.constructorsIn(constraint.getEnclosedElements()).stream()
+                    .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
     private void error(Element e, String msg, Object ...args) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(msg, args), e);
     }
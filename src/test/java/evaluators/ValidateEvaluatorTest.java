@@ -2,6 +2,7 @@ package evaluators;
 
 
 import evaluators.targets.*;
+import it.phibonachos.andromeda.Validate;
 import it.phibonachos.andromeda.ValidateEvaluator;
 import it.phibonachos.andromeda.exception.InvalidFieldException;
 import org.junit.Test;
@@ -24,6 +25,28 @@ public class ValidateEvaluatorTest {
         assert ve.validate();
     }
 
+    @Test
+    public void strictCollectionTest() throws Exception {
+        StrictCollectionObject sco = new StrictCollectionObject();
+        sco.setItems(Fixtures.simples(10));
+        sco.setParallelItems(Fixtures.simples(5000));
+        assert new ValidateEvaluator<>(sco).validate();
+    }
+
+    @Test
+    public void inheritedScopeTest() throws Exception {
+        StrictCollectionObject sco = new StrictCollectionObject();
+        sco.setItems(Fixtures.simples(10));
+        sco.setParallelItems(Fixtures.simples(5000));
+        sco.getItems().get(3).setProp2(null);
+        sco.getParallelItems().get(1234).setProp2(null);
+
+        assert new ValidateEvaluator<>(sco).onlyContexts("ctx1").validate();
+        assert new ValidateEvaluator<>(sco).ignoreContexts("ctx2").validate();
+        assert new ValidateEvaluator<>(sco).ignoreClauses(Validate.Ignore.MANDATORY).validate();
+        assert !new ValidateEvaluator<>(sco).validateAll().isValid();
+    }
+
     @Test
     public void nestedValidation() {
         NestedObject no = new NestedObject();
@@ -52,6 +75,31 @@ public class ValidateEvaluatorTest {
         }
     }
 
+    @Test
+    public void sharedNestedValidation() throws Exception {
+        GraphObject root = new GraphObject(), shared = new GraphObject();
+        root.setProp("root");
+        shared.setProp("shared");
+        root.setLeft(shared);
+        root.setRight(shared);
+
+        assert new ValidateEvaluator<>(root).validate();
+        assert shared.getVisits() == 1; // validated once, although reachable twice
+    }
+
+    @Test
+    public void cyclicNestedValidation() throws Exception {
+        GraphObject first = new GraphObject(), second = new GraphObject();
+        first.setProp("first");
+        second.setProp("second");
+        first.setLeft(second);
+        second.setLeft(first);
+        second.setRight(second);
+
+        assert new ValidateEvaluator<>(first).validate();
+        assert first.getVisits() == 1;
+    }
+
     @Test
     public void NumericConstraint() throws Exception{
         SONumeric son = new SONumeric();
@@ -101,8 +149,35 @@ public class ValidateEvaluatorTest {
     }
 
     @Test
-    public void OctetConstraint() {
+    public void StrictCollectionFailsAtFirstElement() {
+        StrictCollectionObject sco = new StrictCollectionObject();
+        sco.setItems(Fixtures.simples(10));
+        sco.setParallelItems(Fixtures.simples(5000));
+        sco.getItems().get(3).setProp(null);
+        sco.getItems().get(7).setProp(null);
+
+        try {
+            new ValidateEvaluator<>(sco).validate();
+            assert false;
+        } catch (Exception e) {
+            assert e instanceof InvalidFieldException;
+            assert e.getMessage().equals("Collection items[3] : prop cannot be null");
+        }
+
+        sco.setItems(Fixtures.simples(10));
+        sco.getParallelItems().get(4000).setProp2(null);
+        sco.getParallelItems().get(1234).setProp(null);
 
+        try {
+            new ValidateEvaluator<>(sco).validate();
+            assert false;
+        } catch (Exception e) {
+            assert e.getMessage().equals("Collection parallelItems[1234] : prop cannot be null");
+        }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void OctetConstraint() {
+
+    }
+}
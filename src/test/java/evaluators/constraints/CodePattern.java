@@ -0,0 +1,35 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.mono.RegexClass;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matches two letter codes by default, its regex and flags being replaceable to exercise dynamic patterns.
+ */
+public class CodePattern extends RegexClass {
+    private java.lang.String regex = "[A-Z]{2}";
+    private int flags = 0;
+
+    public CodePattern() {
+    }
+
+    public CodePattern(java.lang.String regex, int flags) {
+        this.regex = regex;
+        this.flags = flags;
+    }
+
+    @Override
+    public java.lang.String regex() {
+        return regex;
+    }
+
+    @Override
+    public int flags() {
+        return flags;
+    }
+
+    public Pattern compiled() {
+        return pattern();
+    }
+}
@@ -0,0 +1,20 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+import java.util.Arrays;
+
+/**
+ * Reads the contexts from the inherited fields, so it must not be shared: valid only while validating the "codes" context.
+ */
+public class ContextualCode extends StringConstraint {
+    @Override
+    public Boolean validate(java.lang.String guard) {
+        return super.validate(guard) && context != null && Arrays.asList(context).contains("codes");
+    }
+
+    @Override
+    public java.lang.String message() {
+        return "Codes are only valid in the codes context";
+    }
+}
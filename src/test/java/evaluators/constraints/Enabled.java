@@ -0,0 +1,15 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.mono.BooleanPrimitiveConstraint;
+
+public class Enabled extends BooleanPrimitiveConstraint {
+    @Override
+    public boolean validate(boolean guard) {
+        return guard;
+    }
+
+    @Override
+    public String message() {
+        return "Not enabled";
+    }
+}
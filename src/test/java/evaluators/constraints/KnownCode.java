@@ -0,0 +1,41 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.types.AsyncConstraint;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks codes up in a reference set, each lookup completing only once the expected number of lookups is in flight.
+ */
+public class KnownCode extends AsyncConstraint {
+    private static final Set<String> CODES = Set.of("IT", "FR", "DE");
+    private static volatile CountDownLatch inFlight = new CountDownLatch(0);
+
+    public static void expect(int lookups) {
+        inFlight = new CountDownLatch(lookups);
+    }
+
+    @Override
+    public CompletionStage<Boolean> validateAsync(ValidationScope scope, Object... props) {
+        CountDownLatch latch = inFlight;
+        latch.countDown();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return latch.await(1, TimeUnit.SECONDS) && CODES.contains(props[0]);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public String message() {
+        return "Unknown code";
+    }
+}
@@ -0,0 +1,12 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.collections.StrictCollectionType;
+
+import java.util.Collection;
+
+public class ParallelCollectionType<T, C extends Collection<T>> extends StrictCollectionType<T, C> {
+    @Override
+    public int parallelThreshold() {
+        return 1;
+    }
+}
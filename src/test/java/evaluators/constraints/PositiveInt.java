@@ -0,0 +1,15 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.mono.IntConstraint;
+
+public class PositiveInt extends IntConstraint {
+    @Override
+    public boolean validate(int guard) {
+        return guard > 0;
+    }
+
+    @Override
+    public String message() {
+        return "Not positive";
+    }
+}
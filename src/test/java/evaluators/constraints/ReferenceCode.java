@@ -0,0 +1,33 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.types.BatchConstraint;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in of a reference data lookup, counting the bulk calls it receives.
+ */
+public class ReferenceCode extends BatchConstraint<String> {
+    private static final TreeSet<String> CODES = new TreeSet<>(List.of("DE", "ES", "FR", "IT"));
+    public static final AtomicInteger CALLS = new AtomicInteger();
+
+    @Override
+    public BitSet validateBatch(ValidationScope scope, List<String> guards) {
+        CALLS.incrementAndGet();
+        BitSet valid = new BitSet(guards.size());
+        for (int i = 0; i < guards.size(); i++)
+            if (CODES.contains(guards.get(i)))
+                valid.set(i);
+
+        return valid;
+    }
+
+    @Override
+    public String message() {
+        return "Unknown reference code";
+    }
+}
@@ -0,0 +1,22 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SlowConstraint extends StringConstraint {
+    // clock advanced only by slow checks, to measure budgets independently of the actual timings
+    public static final AtomicLong CLOCK = new AtomicLong();
+
+    @Override
+    public Boolean validate(String guard) {
+        CLOCK.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return super.validate(guard);
+    }
+}
@@ -0,0 +1,24 @@
+package evaluators.constraints;
+
+import it.phibonachos.andromeda.types.Verdict;
+import it.phibonachos.andromeda.types.mono.IntConstraint;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the checks going through the boxed {@link #verdict(Integer)}, which primitive getters must never reach.
+ */
+public class UnboxedInt extends IntConstraint {
+    public static final AtomicInteger BOXED = new AtomicInteger();
+
+    @Override
+    public boolean validate(int guard) {
+        return guard > 0;
+    }
+
+    @Override
+    public Verdict verdict(Integer guard) throws Exception {
+        BOXED.incrementAndGet();
+        return super.verdict(guard);
+    }
+}
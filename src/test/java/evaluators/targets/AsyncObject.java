@@ -0,0 +1,36 @@
+package evaluators.targets;
+
+import evaluators.constraints.KnownCode;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class AsyncObject {
+    private String country, destination, description;
+
+    @Validate(with = KnownCode.class, mandatory = true)
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    @Validate(with = KnownCode.class, mandatory = true, requires = "country")
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    @Validate(with = StringConstraint.class, mandatory = true)
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,18 @@
+package evaluators.targets;
+
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+/* not public: its getters are only reachable through InheritedObject */
+class BaseObject {
+    private java.lang.String prop;
+
+    @Validate(with = StringConstraint.class, mandatory = true)
+    public java.lang.String getProp() {
+        return prop;
+    }
+
+    public void setProp(java.lang.String prop) {
+        this.prop = prop;
+    }
+}
@@ -0,0 +1,36 @@
+package evaluators.targets;
+
+import evaluators.constraints.ReferenceCode;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class BatchObject {
+    private String origin, destination, description;
+
+    @Validate(with = ReferenceCode.class, mandatory = true)
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    @Validate(with = ReferenceCode.class, mandatory = true)
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    @Validate(with = StringConstraint.class, mandatory = true)
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
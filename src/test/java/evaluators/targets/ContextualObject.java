@@ -0,0 +1,28 @@
+package evaluators.targets;
+
+import evaluators.constraints.ContextualCode;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class ContextualObject {
+    private java.lang.String name;
+    private java.lang.String code;
+
+    @Validate(with = StringConstraint.class, context = "codes")
+    public java.lang.String getName() {
+        return name;
+    }
+
+    public void setName(java.lang.String name) {
+        this.name = name;
+    }
+
+    @Validate(with = ContextualCode.class, mandatory = true, context = "codes")
+    public java.lang.String getCode() {
+        return code;
+    }
+
+    public void setCode(java.lang.String code) {
+        this.code = code;
+    }
+}
@@ -0,0 +1,45 @@
+package evaluators.targets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Instances of the test targets shared by tests and benchmarks.
+ */
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    /**
+     * @param valid false to leave the mandatory prop2 unset
+     * @return a new simple object
+     */
+    public static SimpleObject simple(boolean valid) {
+        SimpleObject so = new SimpleObject();
+        so.setProp("valid");
+        so.setProp2(valid ? "valid" : null);
+        return so;
+    }
+
+    /**
+     * @param size Number of objects
+     * @return a new list of valid simple objects
+     */
+    public static List<SimpleObject> simples(int size) {
+        List<SimpleObject> objects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            objects.add(simple(true));
+        return objects;
+    }
+
+    /**
+     * @return a new valid slow object, whose checks take 20ms each
+     */
+    public static SlowObject slow() {
+        SlowObject so = new SlowObject();
+        so.setProp("valid");
+        so.setSlowProp("valid");
+        so.setBudgetProp("valid");
+        return so;
+    }
+}
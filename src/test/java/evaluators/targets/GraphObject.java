@@ -0,0 +1,43 @@
+package evaluators.targets;
+
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.NestedVal;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class GraphObject {
+    private java.lang.String prop;
+    private GraphObject left, right;
+    private int visits;
+
+    @Validate(with = StringConstraint.class, mandatory = true)
+    public java.lang.String getProp() {
+        visits++;
+        return prop;
+    }
+
+    public void setProp(java.lang.String prop) {
+        this.prop = prop;
+    }
+
+    @Validate(with = NestedVal.class)
+    public GraphObject getLeft() {
+        return left;
+    }
+
+    public void setLeft(GraphObject left) {
+        this.left = left;
+    }
+
+    @Validate(with = NestedVal.class)
+    public GraphObject getRight() {
+        return right;
+    }
+
+    public void setRight(GraphObject right) {
+        this.right = right;
+    }
+
+    public int getVisits() {
+        return visits;
+    }
+}
@@ -0,0 +1,17 @@
+package evaluators.targets;
+
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class InheritedObject extends BaseObject {
+    private java.lang.String prop1;
+
+    @Validate(with = StringConstraint.class, requires = "prop")
+    public java.lang.String getProp1() {
+        return prop1;
+    }
+
+    public void setProp1(java.lang.String prop1) {
+        this.prop1 = prop1;
+    }
+}
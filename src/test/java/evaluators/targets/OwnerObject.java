@@ -0,0 +1,41 @@
+package evaluators.targets;
+
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.collections.StrictCollectionType;
+import it.phibonachos.andromeda.types.mono.NestedVal;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+import java.util.List;
+
+public class OwnerObject {
+    private java.lang.String name;
+    private SimpleObject inner;
+    private List<SimpleObject> items;
+
+    @Validate(with = StringConstraint.class)
+    public java.lang.String getName() {
+        return name;
+    }
+
+    public void setName(java.lang.String name) {
+        this.name = name;
+    }
+
+    @Validate(with = NestedVal.class, mandatory = true)
+    public SimpleObject getInner() {
+        return inner;
+    }
+
+    public void setInner(SimpleObject inner) {
+        this.inner = inner;
+    }
+
+    @Validate(with = StrictCollectionType.class, mandatory = true)
+    public List<SimpleObject> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SimpleObject> items) {
+        this.items = items;
+    }
+}
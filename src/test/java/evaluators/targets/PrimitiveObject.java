@@ -0,0 +1,38 @@
+package evaluators.targets;
+
+import evaluators.constraints.Enabled;
+import evaluators.constraints.PositiveInt;
+import it.phibonachos.andromeda.Validate;
+
+public class PrimitiveObject {
+    private int count;
+    private Integer boxedCount;
+    private boolean enabled;
+
+    @Validate(with = PositiveInt.class, mandatory = true)
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Validate(with = PositiveInt.class, mandatory = true)
+    public Integer getBoxedCount() {
+        return boxedCount;
+    }
+
+    public void setBoxedCount(Integer boxedCount) {
+        this.boxedCount = boxedCount;
+    }
+
+    @Validate(with = Enabled.class, mandatory = true)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
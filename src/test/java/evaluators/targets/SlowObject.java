@@ -0,0 +1,36 @@
+package evaluators.targets;
+
+import evaluators.constraints.SlowConstraint;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+
+public class SlowObject {
+    private String prop, slowProp, budgetProp;
+
+    @Validate(with = StringConstraint.class, mandatory = true)
+    public String getProp() {
+        return prop;
+    }
+
+    public void setProp(String prop) {
+        this.prop = prop;
+    }
+
+    @Validate(with = SlowConstraint.class, mandatory = true)
+    public String getSlowProp() {
+        return slowProp;
+    }
+
+    public void setSlowProp(String slowProp) {
+        this.slowProp = slowProp;
+    }
+
+    @Validate(with = SlowConstraint.class, budget = 5)
+    public String getBudgetProp() {
+        return budgetProp;
+    }
+
+    public void setBudgetProp(String budgetProp) {
+        this.budgetProp = budgetProp;
+    }
+}
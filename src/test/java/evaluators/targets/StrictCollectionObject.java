@@ -0,0 +1,30 @@
+package evaluators.targets;
+
+import evaluators.constraints.ParallelCollectionType;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.types.collections.StrictCollectionType;
+
+import java.util.List;
+
+public class StrictCollectionObject {
+    private List<SimpleObject> items;
+    private List<SimpleObject> parallelItems;
+
+    @Validate(with = StrictCollectionType.class, mandatory = true)
+    public List<SimpleObject> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SimpleObject> items) {
+        this.items = items;
+    }
+
+    @Validate(with = ParallelCollectionType.class, mandatory = true)
+    public List<SimpleObject> getParallelItems() {
+        return parallelItems;
+    }
+
+    public void setParallelItems(List<SimpleObject> parallelItems) {
+        this.parallelItems = parallelItems;
+    }
+}
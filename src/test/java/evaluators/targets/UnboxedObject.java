@@ -0,0 +1,27 @@
+package evaluators.targets;
+
+import evaluators.constraints.UnboxedInt;
+import it.phibonachos.andromeda.Validate;
+
+public class UnboxedObject {
+    private int count;
+    private Integer boxedCount;
+
+    @Validate(with = UnboxedInt.class, mandatory = true)
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Validate(with = UnboxedInt.class, mandatory = true)
+    public Integer getBoxedCount() {
+        return boxedCount;
+    }
+
+    public void setBoxedCount(Integer boxedCount) {
+        this.boxedCount = boxedCount;
+    }
+}
@@ -0,0 +1,72 @@
+package evaluators.validate;
+
+import evaluators.targets.InheritedObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationPlan;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.RequirementsException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class AccessorTest {
+
+    @Test
+    /* getters declared by a non public class are read through the public subclass */
+    public void inheritedGetters() throws Exception {
+        InheritedObject io = new InheritedObject();
+        io.setProp("declared by a package private class");
+        io.setProp1("requires prop");
+
+        assert ValidationPlan.of(InheritedObject.class).fetch(io, "getProp").equals("declared by a package private class");
+        assert ValidationPlan.of(InheritedObject.class).fetch(io, "prop").equals("declared by a package private class");
+        assert new ValidateEvaluator<>(io).validate();
+
+        io.setProp(null);
+        try {
+            new ValidateEvaluator<>(io).validate();
+            assert false;
+        } catch (InvalidFieldException | RequirementsException e) {
+            assert e.getMessage() != null;
+        }
+    }
+
+    @Test
+    /* getters of classes which cannot be linked from the library, nor have a generated validator, are still read */
+    public void unlinkedGetters() throws Exception {
+        Path output = Files.createTempDirectory("andromeda");
+        Path source = Files.createDirectories(output.resolve("unlinked")).resolve("CodeObject.java");
+        Files.writeString(source, String.join("\n",
+                "package unlinked;",
+                "import it.phibonachos.andromeda.Validate;",
+                "import it.phibonachos.andromeda.types.mono.StringConstraint;",
+                "public class CodeObject {",
+                "    private String code;",
+                "    @Validate(with = StringConstraint.class, mandatory = true)",
+                "    public String getCode() { return code; }",
+                "    public void setCode(String code) { this.code = code; }",
+                "}"));
+
+        List<Diagnostic<? extends JavaFileObject>> errors = ProcessorTest.compile(output, List.of("-proc:none"), source);
+        assert errors.isEmpty() : errors;
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("unlinked.CodeObject");
+            Object target = type.getConstructor().newInstance();
+            type.getMethod("setCode", String.class).invoke(target, "IT");
+
+            assert !ValidationPlan.of(type).isGenerated();
+            assert ValidationPlan.of(type).fetch(target, "getCode").equals("IT");
+            assert new ValidateEvaluator<>(target).validate();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package evaluators.validate;
+
+
+import evaluators.constraints.KnownCode;
+import evaluators.targets.AsyncObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class AsyncTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void asyncValidation() throws Exception {
+        AsyncObject ao = new AsyncObject();
+        ao.setCountry("IT");
+        ao.setDestination("FR");
+        ao.setDescription("a valid description");
+        ClassValidator<AsyncObject> validator = Validators.forClass(AsyncObject.class).build();
+
+        // both lookups complete only if in flight at the same time
+        KnownCode.expect(2);
+        assert validator.validateAsync(ao).get(5, TimeUnit.SECONDS).isValid();
+
+        KnownCode.expect(1);
+        assert validator.validate(ao);
+
+        ao.setCountry(null);
+        ao.setDestination("XX");
+        ao.setDescription("");
+        KnownCode.expect(1);
+        ValidationResult result = new ValidateEvaluator<>(ao).validateAsync().get(5, TimeUnit.SECONDS);
+        assert result.violations().stream().map(v -> v.path() + ":" + v.clause()).collect(Collectors.toList())
+                .equals(List.of("country:MANDATORY", "description:CONSTRAINT", "destination:CONSTRAINT", "destination:REQUIRES"));
+        assert result.violations().get(2).message().equals("Unknown code");
+    }
+}
@@ -0,0 +1,67 @@
+package evaluators.validate;
+
+
+import evaluators.constraints.ReferenceCode;
+import evaluators.targets.BatchObject;
+import evaluators.targets.Fixtures;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RunWith(JUnit4.class)
+public class BatchTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void batchValidation() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ClassValidator<SimpleObject> validator = Validators.forClass(SimpleObject.class).pool(pool).build();
+            List<SimpleObject> batch = IntStream.range(0, 1000).mapToObj(i -> Fixtures.simple(i % 3 != 0)).collect(Collectors.toList());
+
+            List<ValidationResult> results = validator.validateAll(batch);
+            assert results.size() == batch.size();
+            assert IntStream.range(0, results.size()).allMatch(i -> results.get(i).isValid() == (i % 3 != 0));
+            assert validator.validateAll(batch.spliterator()).toString().equals(results.toString());
+            assert validator.validateAll(batch.stream().filter(so -> true).spliterator()).toString().equals(results.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void bulkConstraintValidation() {
+        List<BatchObject> objects = IntStream.range(0, 1000).mapToObj(i -> {
+            BatchObject bo = new BatchObject();
+            bo.setOrigin(i % 100 == 0 ? "XX" : "IT");
+            bo.setDestination(i % 250 == 0 ? null : "FR");
+            bo.setDescription("shipment " + i);
+            return bo;
+        }).collect(Collectors.toList());
+        ClassValidator<BatchObject> validator = Validators.forClass(BatchObject.class).build();
+
+        ReferenceCode.CALLS.set(0);
+        List<ValidationResult> results = validator.validateAll(objects);
+        assert ReferenceCode.CALLS.get() == 1;
+        assert results.stream().filter(r -> !r.isValid()).count() == 12;
+        assert results.get(0).violations().stream().map(v -> v.path() + ":" + v.clause()).collect(Collectors.toSet())
+                .equals(Set.of("origin:CONSTRAINT", "destination:MANDATORY"));
+        assert results.get(100).violations().get(0).message().equals("Unknown reference code");
+
+        ReferenceCode.CALLS.set(0);
+        assert validator.validateAll(objects.get(1)).isValid();
+        assert !validator.validateAll(objects.get(100)).isValid();
+        assert ReferenceCode.CALLS.get() == 4;
+    }
+}
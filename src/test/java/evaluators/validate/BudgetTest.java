@@ -0,0 +1,60 @@
+package evaluators.validate;
+
+
+import evaluators.constraints.SlowConstraint;
+import evaluators.targets.Fixtures;
+import evaluators.targets.SlowObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.TimeBudget;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.Violation;
+import it.phibonachos.andromeda.exception.BudgetExceededException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+
+@RunWith(JUnit4.class)
+public class BudgetTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void reportingBudget() {
+        SlowObject so = Fixtures.slow();
+        ClassValidator<SlowObject> validator = Validators.forClass(SlowObject.class).build();
+
+        assert validator.validateAll(so).isValid();
+        assert validator.budget().slowConstraints().constraints().stream()
+                .anyMatch(e -> e.constraint() == SlowConstraint.class && e.getter().equals("getBudgetProp") && e.maxNanos() >= 20_000_000);
+
+        // validators without a budget do not share their statistics
+        ClassValidator<SlowObject> other = Validators.forClass(SlowObject.class).build();
+        assert other.budget() != validator.budget();
+        assert other.budget().slowConstraints().constraints().isEmpty();
+    }
+
+    /* NEGATIVE TEST */
+
+    @Test
+    public void failingBudget() {
+        // only slow checks advance the clock, by 20ms each
+        TimeBudget budget = TimeBudget.of(Duration.ofMillis(10), null, true, SlowConstraint.CLOCK::get);
+        ClassValidator<SlowObject> validator = Validators.forClass(SlowObject.class).budget(budget).build();
+
+        ValidationResult result = validator.validateAll(Fixtures.slow());
+        assert result.violations().size() == 2;
+        assert result.violations().stream().allMatch(v -> v.clause() == Violation.Clause.BUDGET && v.constraint() == SlowConstraint.class);
+        assert result.violations().get(0).toException() instanceof BudgetExceededException;
+        assert budget.slowConstraints().constraints().size() == 2;
+
+        TimeBudget validationBudget = TimeBudget.of(null, Duration.ofMillis(10), true, SlowConstraint.CLOCK::get);
+        result = Validators.forClass(SlowObject.class).budget(validationBudget).build().validateAll(Fixtures.slow());
+        assert result.violations().size() == 1;
+        assert result.violations().get(0).path().equals("slowProp");
+        assert ((BudgetExceededException) result.violations().get(0).toException()).constraint() == null;
+        assert validationBudget.slowConstraints().validations() == 1;
+    }
+}
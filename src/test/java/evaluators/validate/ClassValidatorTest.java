@@ -0,0 +1,75 @@
+package evaluators.validate;
+
+
+import evaluators.targets.ComplexObject;
+import evaluators.targets.Fixtures;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RunWith(JUnit4.class)
+public class ClassValidatorTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void contextValidation() throws Exception {
+        ClassValidator<SimpleObject> validator = Validators.forClass(SimpleObject.class).onlyContexts("ctx1").build();
+        SimpleObject so = new SimpleObject();
+        so.setProp("this is a valid string as it is not blank");
+
+        assert validator.validate(so);
+        assert validator.validateAll(so).isValid();
+    }
+
+    @Test
+    public void matchesEvaluator() {
+        ClassValidator<ComplexObject> validator = Validators.forClass(ComplexObject.class).build();
+        ComplexObject co = new ComplexObject();
+
+        assert validator.validateAll(co).violations().toString()
+                .equals(new ValidateEvaluator<>(co).validateAll().violations().toString());
+    }
+
+    @Test
+    public void concurrentValidation() throws Exception {
+        ClassValidator<SimpleObject> validator = Validators.forClass(SimpleObject.class).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> outcomes = executor.invokeAll(IntStream.range(0, 200).mapToObj(i -> (Callable<Boolean>) () ->
+                    validator.validateAll(Fixtures.simple(i % 2 == 0)).isValid() == (i % 2 == 0)
+            ).collect(Collectors.toList()));
+
+            for (Future<Boolean> outcome : outcomes)
+                assert outcome.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /* NEGATIVE TEST */
+
+    @Test
+    public void plainValidationFail() {
+        ClassValidator<SimpleObject> validator = Validators.forClass(SimpleObject.class).ignoreContexts("ctx1").build();
+
+        try {
+            validator.validate(new SimpleObject());
+        } catch (Exception e) {
+            assert e instanceof InvalidFieldException;
+            assert e.getMessage().equals("prop2 cannot be null");
+            return;
+        }
+        assert false;
+    }
+}
@@ -0,0 +1,73 @@
+package evaluators.validate;
+
+
+import evaluators.targets.ComplexObject;
+import evaluators.targets.Fixtures;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.Validators;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class FlightRecorderTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void recordedEvents() throws Exception {
+        SimpleObject so = Fixtures.simple(true);
+
+        Path dump = Files.createTempFile("andromeda", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("it.phibonachos.andromeda.Validation");
+            recording.enable("it.phibonachos.andromeda.Constraint");
+            recording.start();
+            Validators.forClass(SimpleObject.class).onlyContexts("ctx1").build().validateAll(so);
+            Validators.forClass(ComplexObject.class).build().validateAll(new ComplexObject());
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+
+        List<RecordedEvent> validations = events.stream().filter(e -> e.getEventType().getName().equals("it.phibonachos.andromeda.Validation")).collect(Collectors.toList());
+        assert validations.size() == 2;
+        assert validations.get(0).getClass("targetClass").getName().equals(SimpleObject.class.getName());
+        assert validations.get(0).getString("contexts").equals("ctx1");
+        assert validations.get(0).getBoolean("valid");
+        assert !validations.get(1).getBoolean("valid");
+        assert validations.get(1).getInt("violations") == 6;
+
+        assert events.stream()
+                .filter(e -> e.getEventType().getName().equals("it.phibonachos.andromeda.Constraint"))
+                .anyMatch(e -> e.getString("getter").equals("getProp1") && e.getString("verdict").equals("UNSET") && e.getInt("arity") == 1);
+    }
+
+    /* NEGATIVE TEST */
+
+    @Test
+    public void disabledByDefault() throws Exception {
+        Path dump = Files.createTempFile("andromeda", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            Validators.forClass(ComplexObject.class).build().validateAll(new ComplexObject());
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+
+        assert events.stream().noneMatch(e -> e.getEventType().getName().startsWith("it.phibonachos.andromeda."));
+    }
+}
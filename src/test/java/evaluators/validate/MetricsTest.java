@@ -0,0 +1,48 @@
+package evaluators.validate;
+
+
+import evaluators.targets.ComplexObject;
+import evaluators.targets.Fixtures;
+import evaluators.targets.PrimitiveObject;
+import evaluators.targets.SimpleObject;
+import evaluators.targets.StrictCollectionObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.RequirementsException;
+import it.phibonachos.andromeda.metrics.HistogramMetrics;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class MetricsTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void metricsCollection() {
+        HistogramMetrics metrics = new HistogramMetrics();
+        StrictCollectionObject sco = new StrictCollectionObject();
+        sco.setItems(Fixtures.simples(3));
+        sco.setParallelItems(Fixtures.simples(1));
+
+        assert Validators.forClass(StrictCollectionObject.class).metrics(metrics).build().validateAll(sco).isValid();
+        assert metrics.validations(StrictCollectionObject.class).count() == 1;
+        assert metrics.validations(SimpleObject.class).count() == 4;
+        assert metrics.constraints(StringConstraint.class).count() == 8;
+        assert metrics.fanOut(StrictCollectionObject.class).count() == 2;
+        assert metrics.fanOut(StrictCollectionObject.class).total() == 4;
+
+        new ValidateEvaluator<>(new ComplexObject()).metrics(metrics).validateAll();
+        assert metrics.failures(InvalidFieldException.class) == 4;
+        assert metrics.failures(RequirementsException.class) == 2;
+        assert metrics.validations(ComplexObject.class).valueAt(100) >= metrics.validations(ComplexObject.class).valueAt(50);
+
+        // reading a class never validated neither allocates nor registers it
+        assert metrics.validations(PrimitiveObject.class).count() == 0;
+        assert metrics.validations(PrimitiveObject.class) == metrics.fanOut(PrimitiveObject.class);
+        assert !metrics.validatedTypes().contains(PrimitiveObject.class);
+    }
+}
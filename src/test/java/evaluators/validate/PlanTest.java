@@ -0,0 +1,70 @@
+package evaluators.validate;
+
+import evaluators.targets.CascadeRequirementsObject;
+import evaluators.targets.InheritedObject;
+import evaluators.targets.RequirementsObject;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.Validate;
+import it.phibonachos.andromeda.ValidationPlan;
+import it.phibonachos.andromeda.ValidationScope;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RunWith(JUnit4.class)
+public class PlanTest {
+
+    @Test
+    public void planBuiltOncePerClass() {
+        ValidationPlan plan = ValidationPlan.of(SimpleObject.class);
+
+        assert plan == ValidationPlan.of(SimpleObject.class);
+        assert plan != ValidationPlan.of(RequirementsObject.class);
+        assert plan.type() == SimpleObject.class;
+        assert plan.properties().size() == 2;
+    }
+
+    @Test
+    /* mandatory properties first, then by number of requirements */
+    public void planSortedInEvaluationOrder() {
+        List<Validate> annotations = ValidationPlan.of(InheritedObject.class).properties().stream()
+                .map(ValidationPlan.Property::annotation)
+                .collect(Collectors.toList());
+
+        assert annotations.size() == 2;
+        assert annotations.get(0).mandatory();
+        assert annotations.get(1).requires().length == 1;
+    }
+
+    @Test
+    /* getters declared by a non public class only show up as bridges of the public subclass */
+    public void inheritedGettersPlanned() {
+        List<String> names = ValidationPlan.of(InheritedObject.class).properties().stream()
+                .map(p -> p.getter().getName())
+                .collect(Collectors.toList());
+
+        assert names.equals(List.of("getProp", "getProp1"));
+    }
+
+    @Test
+    public void contextViews() {
+        ValidationPlan plan = ValidationPlan.of(SimpleObject.class);
+        ValidationScope scope = ValidationScope.of(Set.of("ctx1"), Set.of());
+
+        assert plan.view(scope).positions().length == 1; // prop2 is out of context and cannot fail
+        assert plan.view(scope) == plan.view(ValidationScope.of(Set.of("ctx1"), Set.of()));
+        assert plan.view(ValidationScope.EMPTY).positions().length == 2;
+        assert plan.view(ValidationScope.of(Set.of(), Set.of("ctx1", "ctx2"))).positions().length == 0;
+
+        // out of context properties with requirements are still checked
+        ValidationPlan cascade = ValidationPlan.of(CascadeRequirementsObject.class);
+        ValidationPlan.View view = cascade.view(ValidationScope.of(Set.of(), Set.of("ctx1")));
+        assert IntStream.range(0, cascade.properties().size()).filter(view::isOutOfContext).count() == 1;
+        assert view.positions().length == cascade.properties().size();
+    }
+}
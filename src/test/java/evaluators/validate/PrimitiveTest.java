@@ -0,0 +1,60 @@
+package evaluators.validate;
+
+
+import evaluators.constraints.UnboxedInt;
+import evaluators.targets.PrimitiveObject;
+import evaluators.targets.UnboxedObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.Violation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class PrimitiveTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void primitiveValidation() throws Exception {
+        PrimitiveObject po = new PrimitiveObject();
+        po.setCount(3);
+        po.setBoxedCount(5);
+        po.setEnabled(true);
+        ClassValidator<PrimitiveObject> validator = Validators.forClass(PrimitiveObject.class).build();
+
+        assert validator.validate(po);
+        assert new ValidateEvaluator<>(po).validate();
+
+        po.setCount(0);
+        po.setBoxedCount(-1);
+        po.setEnabled(false);
+        ValidationResult result = validator.validateAll(po);
+        assert result.violations().size() == 3;
+        assert result.violations().stream().map(Violation::message).collect(Collectors.toSet()).equals(Set.of("Not positive", "Not enabled"));
+        assert new ValidateEvaluator<>(po).validateAll().violations().size() == 3;
+    }
+
+    @Test
+    /* primitive getters reach the primitive validate, only the boxed one goes through verdict(Integer) */
+    public void primitiveValidationWithoutBoxing() throws Exception {
+        UnboxedObject uo = new UnboxedObject();
+        uo.setCount(3);
+        uo.setBoxedCount(5);
+        ClassValidator<UnboxedObject> validator = Validators.forClass(UnboxedObject.class).build();
+
+        int boxed = UnboxedInt.BOXED.get();
+        assert validator.validate(uo);
+        assert UnboxedInt.BOXED.get() == boxed + 1;
+
+        uo.setCount(0);
+        assert validator.validateAll(uo).violations().size() == 1;
+        assert UnboxedInt.BOXED.get() == boxed + 2;
+    }
+}
@@ -0,0 +1,147 @@
+package evaluators.validate;
+
+
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationPlan;
+import it.phibonachos.andromeda.exception.AnnotationException;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.processor.ValidateProcessor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class ProcessorTest {
+    private static final Path TEST_SOURCES = Paths.get("src", "test", "java");
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void collectionConstraints() throws Exception {
+        Path output = Files.createTempDirectory("andromeda");
+        List<Diagnostic<? extends JavaFileObject>> errors = process(output,
+                TEST_SOURCES.resolve("evaluators/targets/CollectionObject.java"),
+                TEST_SOURCES.resolve("evaluators/targets/StrictCollectionObject.java"),
+                TEST_SOURCES.resolve("evaluators/constraints/ParallelCollectionType.java"),
+                TEST_SOURCES.resolve("evaluators/targets/SimpleObject.java"));
+
+        assert errors.isEmpty() : errors;
+        assert Files.exists(output.resolve("evaluators/targets/CollectionObject_AndromedaValidator.java"));
+        assert Files.exists(output.resolve("evaluators/targets/StrictCollectionObject_AndromedaValidator.java"));
+    }
+
+    @Test
+    /* the generated validator is found next to the validated class, even when loaded by another class loader */
+    public void generatedValidatorUsed() throws Exception {
+        Path output = Files.createTempDirectory("andromeda");
+        Path source = Files.createDirectories(output.resolve("generated")).resolve("CodeObject.java");
+        Files.writeString(source, String.join("\n",
+                "package generated;",
+                "import it.phibonachos.andromeda.Validate;",
+                "import it.phibonachos.andromeda.types.mono.StringConstraint;",
+                "public class CodeObject {",
+                "    private String code;",
+                "    @Validate(with = StringConstraint.class, mandatory = true)",
+                "    public String getCode() { return code; }",
+                "    public void setCode(String code) { this.code = code; }",
+                "}"));
+
+        List<Diagnostic<? extends JavaFileObject>> errors = process(output, source);
+        assert errors.isEmpty() : errors;
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("generated.CodeObject");
+            Object target = type.getConstructor().newInstance();
+            type.getMethod("setCode", String.class).invoke(target, "IT");
+
+            assert ValidationPlan.of(type).isGenerated();
+            assert ValidationPlan.of(type).fetch(target, "getCode").equals("IT");
+            assert new ValidateEvaluator<>(target).validate();
+
+            type.getMethod("setCode", String.class).invoke(target, " ");
+            try {
+                new ValidateEvaluator<>(target).validate();
+                assert false;
+            } catch (InvalidFieldException e) {
+                assert e.getMessage() != null;
+            }
+        }
+    }
+
+    @Test
+    /* a clause naming a missing property compiles, and fails only once the clause is evaluated, as without the processor */
+    public void missingClauseProperty() throws Exception {
+        Path output = Files.createTempDirectory("andromeda");
+        Path source = Files.createDirectories(output.resolve("generated")).resolve("MissingObject.java");
+        Files.writeString(source, String.join("\n",
+                "package generated;",
+                "import it.phibonachos.andromeda.Validate;",
+                "import it.phibonachos.andromeda.types.mono.StringConstraint;",
+                "public class MissingObject {",
+                "    private String code;",
+                "    @Validate(with = StringConstraint.class, requires = \"missing\")",
+                "    public String getCode() { return code; }",
+                "    public void setCode(String code) { this.code = code; }",
+                "}"));
+
+        List<Diagnostic<? extends JavaFileObject>> errors = process(output, source);
+        assert errors.isEmpty() : errors;
+        assert Files.exists(output.resolve("generated/MissingObject_AndromedaValidator.java"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("generated.MissingObject");
+            Object target = type.getConstructor().newInstance();
+
+            assert ValidationPlan.of(type).isGenerated();
+            assert new ValidateEvaluator<>(target).validate(); // unset, so its requirements are not evaluated
+
+            type.getMethod("setCode", String.class).invoke(target, "IT");
+            try {
+                new ValidateEvaluator<>(target).validate();
+                assert false;
+            } catch (AnnotationException e) {
+                assert e.getMessage().equals("MissingObject does not expose any getter for missing");
+            }
+        }
+    }
+
+    /**
+     * Compiles the given sources running {@link ValidateProcessor}, generated sources and classes are written to the output directory.
+     *
+     * @return error diagnostics
+     */
+    static List<Diagnostic<? extends JavaFileObject>> process(Path output, Path... sources) throws IOException {
+        return compile(output, List.of("-s", output.toString(), "-processor", ValidateProcessor.class.getName()), sources);
+    }
+
+    /**
+     * Compiles the given sources against the test classpath, classes are written to the output directory.
+     *
+     * @return error diagnostics
+     */
+    static List<Diagnostic<? extends JavaFileObject>> compile(Path output, List<String> options, Path... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> arguments = new ArrayList<>(List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")));
+            arguments.addAll(options);
+            compiler.getTask(null, files, diagnostics, arguments, null, files.getJavaFileObjectsFromPaths(Arrays.asList(sources))).call();
+        }
+
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+    }
+}
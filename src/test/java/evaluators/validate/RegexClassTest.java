@@ -0,0 +1,42 @@
+package evaluators.validate;
+
+import evaluators.constraints.CodePattern;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.regex.Pattern;
+
+@RunWith(JUnit4.class)
+public class RegexClassTest {
+
+    @Test
+    public void staticRegexSharedByClass() {
+        CodePattern first = new CodePattern(), second = new CodePattern();
+
+        assert first.compiled() == second.compiled();
+        assert first.compiled() == first.compiled();
+        assert first.validate("IT");
+        assert !first.validate("it");
+    }
+
+    @Test
+    public void flagsDistinguishPatterns() {
+        CodePattern sensitive = new CodePattern();
+        CodePattern insensitive = new CodePattern("[A-Z]{2}", Pattern.CASE_INSENSITIVE);
+
+        assert sensitive.compiled() != insensitive.compiled();
+        assert insensitive.compiled().flags() == Pattern.CASE_INSENSITIVE;
+        assert insensitive.validate("it");
+        assert !sensitive.validate("it");
+    }
+
+    @Test
+    public void dynamicRegexSharedByValue() {
+        CodePattern first = new CodePattern("[0-9]{3}", 0), second = new CodePattern("[0-9]{3}", 0);
+
+        assert first.compiled() == second.compiled();
+        assert first.validate("123");
+        assert !first.validate("IT");
+    }
+}
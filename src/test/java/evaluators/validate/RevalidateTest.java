@@ -0,0 +1,39 @@
+package evaluators.validate;
+
+
+import evaluators.targets.ComplexObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Set;
+
+@RunWith(JUnit4.class)
+public class RevalidateTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void incrementalValidation() {
+        ClassValidator<ComplexObject> validator = Validators.forClass(ComplexObject.class).build();
+        ComplexObject co = new ComplexObject();
+        ValidationResult result = validator.validateAll(co);
+
+        co.setProp1("short");
+        result = validator.revalidate(co, result, Set.of("prop1"));
+        assert result.toString().equals(validator.validateAll(co).toString());
+        assert result.violations().stream().noneMatch(v -> v.path().equals("prop1"));
+
+        co.setProp2("short");
+        co.setProp3(true);
+        result = validator.revalidate(co, result, Set.of("getProp2", "prop3"));
+        assert result.toString().equals(validator.validateAll(co).toString());
+
+        co.setProp4("short");
+        result = validator.revalidate(co, result, Set.of("prop4"));
+        assert result.isValid();
+    }
+}
@@ -0,0 +1,46 @@
+package evaluators.validate;
+
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.exception.ConflictFieldException;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.RequirementsException;
+import it.phibonachos.andromeda.exception.StackTraces;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class StackTracesTest {
+
+    @Test
+    public void stackTracesSkippedByDefault() {
+        assert !StackTraces.enabled();
+        assert new InvalidFieldException("invalid").getStackTrace().length == 0;
+        assert new RequirementsException("getProp", List.of("prop1")).getStackTrace().length == 0;
+        assert new ConflictFieldException("getProp", List.of("prop1")).getStackTrace().length == 0;
+        assert failure().getStackTrace().length == 0;
+    }
+
+    @Test
+    public void stackTracesOnDemand() {
+        StackTraces.enable(true);
+        try {
+            assert new InvalidFieldException("invalid").getStackTrace().length > 0;
+            assert failure().getStackTrace().length > 0;
+        } finally {
+            StackTraces.enable(false);
+        }
+    }
+
+    private static Exception failure() {
+        try {
+            new ValidateEvaluator<>(new SimpleObject()).validate();
+        } catch (Exception e) {
+            return e;
+        }
+        throw new AssertionError("an empty SimpleObject must not be valid");
+    }
+}
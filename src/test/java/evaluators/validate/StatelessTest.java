@@ -0,0 +1,53 @@
+package evaluators.validate;
+
+import evaluators.targets.ContextualObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationPlan;
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Set;
+
+@RunWith(JUnit4.class)
+public class StatelessTest {
+
+    @Test
+    public void statelessInstancesShared() throws Exception {
+        ValidationPlan.Property name = property("getName");
+
+        assert name.instance(ValidationScope.EMPTY) == name.instance(ValidationScope.of(Set.of("codes"), Set.of()));
+    }
+
+    @Test
+    public void statefulInstancesNotShared() throws Exception {
+        ValidationPlan.Property code = property("getCode");
+
+        assert code.instance(ValidationScope.EMPTY) != code.instance(ValidationScope.EMPTY);
+    }
+
+    @Test
+    public void statefulInstancesReceiveContexts() throws Exception {
+        ContextualObject co = new ContextualObject();
+        co.setName("name");
+        co.setCode("IT");
+
+        assert new ValidateEvaluator<>(co).onlyContexts("codes").validate();
+
+        try {
+            new ValidateEvaluator<>(co).validate();
+            assert false;
+        } catch (InvalidFieldException e) {
+            assert e.getMessage().equals("Codes are only valid in the codes context");
+        }
+    }
+
+    private static ValidationPlan.Property property(String getter) {
+        return ValidationPlan.of(ContextualObject.class).properties().stream()
+                .filter(p -> p.getter().getName().equals(getter))
+                .findFirst()
+                .orElseThrow();
+    }
+}
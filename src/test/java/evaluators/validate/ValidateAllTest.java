@@ -0,0 +1,126 @@
+package evaluators.validate;
+
+
+import evaluators.targets.ComplexObject;
+import evaluators.targets.ConflictsObject;
+import evaluators.targets.OwnerObject;
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ClassValidator;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationResult;
+import it.phibonachos.andromeda.Validators;
+import it.phibonachos.andromeda.Violation;
+import it.phibonachos.andromeda.exception.ConflictFieldException;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.exception.PropertyNames;
+import it.phibonachos.andromeda.exception.RequirementsException;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class ValidateAllTest {
+
+    /* POSITIVE TEST */
+
+    @Test
+    public void validResult() {
+        SimpleObject so = new SimpleObject();
+        so.setProp("this is a valid string as it is not blank");
+        so.setProp2("this is also a valid string as it is not blank");
+
+        ValidationResult result = new ValidateEvaluator<>(so).validateAll();
+
+        assert result.isValid();
+        assert result.violations().isEmpty();
+    }
+
+    /* NEGATIVE TEST */
+
+    @Test
+    public void collectsEveryViolation() {
+        ValidationResult result = new ValidateEvaluator<>(new ComplexObject()).validateAll();
+
+        assert !result.isValid();
+        assert result.violations().stream().map(Violation::path).collect(Collectors.toList())
+                .equals(List.of("prop1", "prop2", "prop2", "prop3", "prop4", "prop4"));
+        assert result.violations().get(0).clause() == Violation.Clause.MANDATORY;
+        assert result.violations().get(0).constraint() == StringConstraint.class;
+        assert result.violations().get(0).message().equals("prop1 cannot be null");
+        assert result.violations().get(2).clause() == Violation.Clause.REQUIRES;
+        assert result.violations().get(2).properties().equals(List.of("prop1"));
+        assert result.violations().get(2).getter().equals("getProp2");
+    }
+
+    @Test
+    /* nested objects report every violation too, under the path of the property holding them */
+    public void collectsNestedViolations() {
+        SimpleObject valid = new SimpleObject(), invalid = new SimpleObject();
+        valid.setProp("valid");
+        valid.setProp2("valid");
+        invalid.setProp("only prop2 is missing");
+        OwnerObject oo = new OwnerObject();
+        oo.setInner(new SimpleObject());
+        oo.setItems(List.of(valid, invalid, new SimpleObject()));
+
+        ValidationResult result = new ValidateEvaluator<>(oo).validateAll();
+
+        Map<String, Violation> byPath = result.violations().stream().collect(Collectors.toMap(Violation::path, v -> v));
+        assert byPath.keySet().equals(Set.of("inner.prop", "inner.prop2", "items[1].prop2"));
+        assert byPath.get("inner.prop").getter().equals("getProp");
+        assert byPath.get("inner.prop").clause() == Violation.Clause.MANDATORY;
+        assert byPath.get("items[1].prop2").message().equals("prop2 cannot be null");
+
+        // revalidating other properties keeps the nested violations
+        ClassValidator<OwnerObject> validator = Validators.forClass(OwnerObject.class).build();
+        oo.setName("owner");
+        assert validator.revalidate(oo, validator.validateAll(oo), Set.of("name")).violations().size() == 3;
+
+        try {
+            new ValidateEvaluator<>(oo).validate();
+            assert false;
+        } catch (Exception e) {
+            assert e instanceof InvalidFieldException;
+            assert e.getMessage().endsWith("cannot be null[nested]") || e.getMessage().startsWith("Collection items[1]");
+        }
+    }
+
+    @Test
+    public void structuredFailures() {
+        RequirementsException re = new RequirementsException("getProp2", List.of("prop1"));
+        assert re.methodName().equals("getProp2");
+        assert re.requirements().equals(List.of("prop1"));
+        assert re.getMessage().equals("prop2 requires fields: prop1.");
+
+        assert new InvalidFieldException("isEnabled", List.of()).getMessage().equals("enabled cannot be null");
+        assert PropertyNames.of("hasItems").equals("items");
+        assert PropertyNames.of("get").equals("get");
+    }
+
+    @Test
+    public void failFastMatchesFirstViolation() {
+        ConflictsObject co = new ConflictsObject();
+        co.setProp("this prop conflicts with conflictProp");
+        co.setConflictProp("this prop conflict with prop");
+        ValidateEvaluator<ConflictsObject> evaluator = new ValidateEvaluator<>(co);
+
+        ValidationResult result = evaluator.validateAll();
+        assert result.violations().size() == 2;
+        assert result.violations().stream().allMatch(v -> v.clause() == Violation.Clause.CONFLICTS);
+
+        try {
+            evaluator.validate();
+        } catch (Exception e) {
+            assert e instanceof ConflictFieldException;
+            assert e.getMessage().equals(result.violations().get(0).message());
+            return;
+        }
+        assert false;
+    }
+}
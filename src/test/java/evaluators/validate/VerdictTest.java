@@ -0,0 +1,63 @@
+package evaluators.validate;
+
+import evaluators.targets.SimpleObject;
+import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationScope;
+import it.phibonachos.andromeda.exception.InvalidFieldException;
+import it.phibonachos.andromeda.types.SoloConstraint;
+import it.phibonachos.andromeda.types.Verdict;
+import it.phibonachos.andromeda.types.mono.BooleanConstraint;
+import it.phibonachos.andromeda.types.mono.NotNull;
+import it.phibonachos.andromeda.types.mono.StringConstraint;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class VerdictTest {
+
+    @Test
+    public void unsetPropertiesReported() throws Exception {
+        assert new StringConstraint().check(ValidationScope.EMPTY, (Object) null) == Verdict.UNSET;
+        assert new NotNull<>().check(ValidationScope.EMPTY, (Object) null) == Verdict.UNSET;
+        assert new BooleanConstraint().check(ValidationScope.EMPTY, false) == Verdict.UNSET;
+    }
+
+    @Test
+    public void setPropertiesJudged() throws Exception {
+        assert new StringConstraint().check(ValidationScope.EMPTY, "set") == Verdict.VALID;
+        assert new StringConstraint().check(ValidationScope.EMPTY, " ") == Verdict.INVALID;
+        assert new BooleanConstraint().check(ValidationScope.EMPTY, true) == Verdict.VALID;
+    }
+
+    @Test
+    /* a NullPointerException thrown by a validation class is a failure, not an unset property */
+    public void constraintFailuresNotUnset() throws Exception {
+        SoloConstraint<String> failing = new SoloConstraint<>() {
+            @Override
+            public Boolean validate(String target) {
+                throw new NullPointerException("bug in the validation class");
+            }
+        };
+
+        try {
+            failing.check(ValidationScope.EMPTY, "set");
+            assert false;
+        } catch (NullPointerException e) {
+            assert e.getMessage().equals("bug in the validation class");
+        }
+    }
+
+    @Test
+    public void mandatoryUnsetPropertiesFail() {
+        SimpleObject so = new SimpleObject();
+        so.setProp("set");
+
+        try {
+            new ValidateEvaluator<>(so).validate();
+            assert false;
+        } catch (Exception e) {
+            assert e instanceof InvalidFieldException;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package evaluators.validate.clauses;
 
 
+import evaluators.constraints.C2Constraint;
+import evaluators.constraints.C8Constraint;
 import evaluators.targets.*;
 import it.phibonachos.andromeda.ValidateEvaluator;
+import it.phibonachos.andromeda.ValidationScope;
 import it.phibonachos.andromeda.exception.*;
+import it.phibonachos.andromeda.types.Verdict;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -13,6 +17,17 @@ public class BoundToClauseTest {
 
     /* POSITIVE TEST */
 
+    @Test
+    public void arityMatchesArguments() throws Exception {
+        C2Constraint c2 = new C2Constraint();
+        assert c2.arity() == 2;
+        assert new C8Constraint().arity() == 8;
+        assert c2.check2(ValidationScope.EMPTY, "short", "short") == Verdict.VALID;
+        assert c2.check2(ValidationScope.EMPTY, "this is long", "this is long") == Verdict.INVALID;
+        assert c2.check2(ValidationScope.EMPTY, null, "short") == Verdict.UNSET;
+        assert c2.check2(ValidationScope.EMPTY, "short", "short") == c2.check(ValidationScope.EMPTY, "short", "short");
+    }
+
     @Test
     public void successfulCompoundConstraint() {
         CompoundConstraintObject cco = new CompoundConstraintObject();
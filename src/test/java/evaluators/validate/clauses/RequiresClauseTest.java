@@ -148,4 +148,26 @@ public class RequiresClauseTest {
             assert e instanceof RequirementsException;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    /* properties requiring each other are valid only when set together */
+    public void mutualRequirements() throws Exception {
+        CyclicRequirementsObject cro = new CyclicRequirementsObject();
+        ValidateEvaluator<CyclicRequirementsObject> evaluator = new ValidateEvaluator<>(cro);
+
+        assert evaluator.validate();
+
+        cro.setProp("this property requires prop1");
+
+        try {
+            evaluator.validate();
+            assert false;
+        } catch (RequirementsException e) {
+            assert e.getMessage() != null;
+        }
+
+        cro.setProp1("this property requires prop");
+
+        assert evaluator.validate();
+    }
+}